@@ -9,6 +9,7 @@ val rewriteVersion = rewriteRecipe.rewriteVersion.get()
 dependencies {
     implementation(platform("org.openrewrite:rewrite-bom:$rewriteVersion"))
     implementation("org.openrewrite:rewrite-java")
+    implementation("org.openrewrite:rewrite-maven")
     implementation("org.openrewrite.recipe:rewrite-java-dependencies:$rewriteVersion")
     implementation("org.openrewrite:rewrite-templating:$rewriteVersion")
 
@@ -23,11 +24,12 @@ dependencies {
 
     testImplementation("org.openrewrite:rewrite-java-17")
     testImplementation("org.openrewrite:rewrite-test")
-    testImplementation("org.openrewrite:rewrite-maven")
 
     testImplementation("org.junit.jupiter:junit-jupiter-engine:latest.release")
 }
 
 recipeDependencies {
     parserClasspath("com.fasterxml.jackson.core:jackson-annotations:latest.release")
+    parserClasspath("com.fasterxml.jackson.core:jackson-core:latest.release")
+    parserClasspath("com.fasterxml.jackson.core:jackson-databind:latest.release")
 }
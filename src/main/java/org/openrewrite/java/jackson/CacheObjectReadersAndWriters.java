@@ -0,0 +1,258 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.*;
+
+public class CacheObjectReadersAndWriters extends Recipe {
+
+    private static final String OBJECT_MAPPER = "com.fasterxml.jackson.databind.ObjectMapper";
+    private static final String OBJECT_READER = "com.fasterxml.jackson.databind.ObjectReader";
+    private static final String OBJECT_WRITER = "com.fasterxml.jackson.databind.ObjectWriter";
+
+    /**
+     * Methods that create a reader or writer from a mapper.
+     */
+    static final Set<String> FACTORY_METHODS = new HashSet<>(Arrays.asList(
+            "reader", "readerFor", "readerWithView", "writer", "writerFor", "writerWithView",
+            "writerWithDefaultPrettyPrinter", "writerWithType"));
+
+    /**
+     * Methods that derive a reader or writer with a different configuration from another one.
+     */
+    static final Set<String> VIEW_METHODS = new HashSet<>(Arrays.asList(
+            "with", "without", "forType", "withType", "withView", "withRootName", "withoutRootName",
+            "withDefaultPrettyPrinter", "withFeatures", "withoutFeatures"));
+
+    @Override
+    public String getDisplayName() {
+        return "Cache `ObjectReader` and `ObjectWriter` instances";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Creating an `ObjectReader` or `ObjectWriter` from a mapper resolves the type and configuration again on every call. " +
+               "Chains such as `MAPPER.readerFor(Foo.class).with(...)` or `MAPPER.writerWithDefaultPrettyPrinter()` " +
+               "on a static final mapper with constant arguments are moved into `private static final` fields. " +
+               "Chains on a static final mapper which can not be moved safely are marked, such as those on a mapper " +
+               "that is assigned in a static initializer, which runs after the initializers of the added fields.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesType<>(OBJECT_MAPPER, true), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                Cursor cursor = getCursor();
+
+                String reason = HoistedFields.canDeclareStaticFields(cd, cursor) ? null :
+                        "Not cached, as static fields can not be declared in this class";
+                Set<String> unchangedBy = new HashSet<>(HoistObjectMapperConstruction.READ_METHODS);
+                unchangedBy.addAll(FACTORY_METHODS);
+                Set<String> reconfigured = HoistedFields.reconfiguredFields(cd, OBJECT_MAPPER, unchangedBy);
+                Set<String> blank = HoistedFields.blankStaticFinalFields(cd);
+                Map<String, J.MethodInvocation> liftable = new LinkedHashMap<>();
+                Map<UUID, String> chains = new HashMap<>();
+                Map<UUID, String> unsafe = new HashMap<>();
+                for (Statement statement : cd.getBody().getStatements()) {
+                    if (!(statement instanceof J.MethodDeclaration) || ((J.MethodDeclaration) statement).getBody() == null) {
+                        continue;
+                    }
+                    for (J.MethodInvocation chain : findChains((J.MethodDeclaration) statement, cursor)) {
+                        String chainReason = reason;
+                        if (chainReason == null && reconfigured.contains(sharedMapper(chain))) {
+                            chainReason = "Not cached, as the mapper is reconfigured after it is created";
+                        } else if (chainReason == null && blank.contains(sharedMapper(chain))) {
+                            chainReason = "Not cached, as the mapper is assigned in a static initializer";
+                        } else if (chainReason == null && !hasConstantArguments(chain)) {
+                            chainReason = "Not cached, as the arguments are not constant";
+                        }
+                        if (chainReason == null) {
+                            String printed = chain.printTrimmed(cursor);
+                            liftable.putIfAbsent(printed, chain);
+                            chains.put(chain.getId(), printed);
+                        } else {
+                            unsafe.put(chain.getId(), chainReason);
+                        }
+                    }
+                }
+                if (chains.isEmpty() && unsafe.isEmpty()) {
+                    return cd;
+                }
+
+                // Reuse the readers and writers which are already cached, and add a field for the others
+                Map<String, String> fieldByChain = new HashMap<>();
+                HoistedFields.staticFinalFields(cd).forEach((name, field) -> {
+                    if (field.getInitializer() != null) {
+                        fieldByChain.putIfAbsent(field.getInitializer().printTrimmed(cursor), name);
+                    }
+                });
+                Set<String> taken = new HashSet<>();
+                for (Map.Entry<String, J.MethodInvocation> chain : liftable.entrySet()) {
+                    if (!fieldByChain.containsKey(chain.getKey())) {
+                        String name = HoistedFields.uniqueName(cd, fieldName(chain.getValue()), taken);
+                        fieldByChain.put(chain.getKey(), name);
+                        cd = addField(cd, name, chain.getValue(), ctx);
+                    }
+                }
+
+                Map<UUID, String> replacements = new HashMap<>();
+                Map<String, JavaType.@Nullable Variable> fieldTypes = new HashMap<>();
+                for (Map.Entry<UUID, String> chain : chains.entrySet()) {
+                    String name = fieldByChain.get(chain.getValue());
+                    replacements.put(chain.getKey(), name);
+                    fieldTypes.put(name, HoistedFields.fieldType(cd, name));
+                }
+                JavaVisitor<ExecutionContext> replaceChains = new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        String name = replacements.get(method.getId());
+                        if (name != null) {
+                            return HoistedFields.reference(method, name, fieldTypes.get(name));
+                        }
+                        if (unsafe.containsKey(method.getId())) {
+                            return SearchResult.found(method, unsafe.get(method.getId()));
+                        }
+                        return super.visitMethodInvocation(method, ctx);
+                    }
+                };
+                Cursor bodyCursor = new Cursor(updateCursor(cd), cd.getBody());
+                return cd.withBody(cd.getBody().withStatements(ListUtils.map(cd.getBody().getStatements(), statement ->
+                        statement instanceof J.MethodDeclaration ?
+                                (Statement) replaceChains.visitNonNull(statement, ctx, bodyCursor) :
+                                statement)));
+            }
+
+            private J.ClassDeclaration addField(J.ClassDeclaration cd, String name, J.MethodInvocation chain, ExecutionContext ctx) {
+                String type = TypeUtils.isOfClassType(chain.getType(), OBJECT_READER) ? OBJECT_READER : OBJECT_WRITER;
+                maybeAddImport(type);
+                return JavaTemplate.builder("private static final " + type.substring(type.lastIndexOf('.') + 1) + " " + name +
+                                            " = #{any(" + type + ")};")
+                        .imports(type)
+                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-annotations", "jackson-core", "jackson-databind"))
+                        .build()
+                        .apply(updateCursor(cd), HoistedFields.afterStaticFields(cd), chain);
+            }
+        });
+    }
+
+    /**
+     * @return the outermost reader and writer chains on static final mappers in the method body.
+     */
+    private static List<J.MethodInvocation> findChains(J.MethodDeclaration method, Cursor classCursor) {
+        List<J.MethodInvocation> chains = new ArrayList<>();
+        new JavaIsoVisitor<List<J.MethodInvocation>>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, List<J.MethodInvocation> found) {
+                J.MethodInvocation mi = super.visitMethodInvocation(method, found);
+                if (sharedMapper(mi) == null) {
+                    return mi;
+                }
+                Object parent = getCursor().getParentTreeCursor().getValue();
+                if (parent instanceof J.MethodInvocation &&
+                    ((J.MethodInvocation) parent).getSelect() == method &&
+                    sharedMapper((J.MethodInvocation) parent) != null) {
+                    return mi;
+                }
+                found.add(mi);
+                return mi;
+            }
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, List<J.MethodInvocation> found) {
+                // Local classes are handled on their own
+                return classDecl;
+            }
+        }.visit(method.getBody(), chains, new Cursor(classCursor, method));
+        return chains;
+    }
+
+    /**
+     * @return the name of the static final mapper the reader or writer chain starts from,
+     * or {@code null} if the method invocation is not such a chain.
+     */
+    private static @Nullable String sharedMapper(J.MethodInvocation method) {
+        J.MethodInvocation mi = method;
+        while (VIEW_METHODS.contains(mi.getSimpleName()) && isReaderOrWriter(mi.getType()) &&
+               mi.getSelect() instanceof J.MethodInvocation) {
+            mi = (J.MethodInvocation) mi.getSelect();
+        }
+        if (!FACTORY_METHODS.contains(mi.getSimpleName()) || !isReaderOrWriter(mi.getType())) {
+            return null;
+        }
+        return HoistedFields.staticFinalField(mi.getSelect(), OBJECT_MAPPER);
+    }
+
+    private static boolean isReaderOrWriter(@Nullable JavaType type) {
+        return TypeUtils.isOfClassType(type, OBJECT_READER) || TypeUtils.isOfClassType(type, OBJECT_WRITER);
+    }
+
+    private static boolean hasConstantArguments(J.MethodInvocation chain) {
+        for (Expression select = chain; select instanceof J.MethodInvocation; select = ((J.MethodInvocation) select).getSelect()) {
+            for (Expression argument : ((J.MethodInvocation) select).getArguments()) {
+                if (!(argument instanceof J.Empty) && !HoistedFields.isConstant(argument)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Name the field after the type that is read or written, such as {@code FOO_READER},
+     * or after the pretty printer, such as {@code PRETTY_PRINTER_WRITER}.
+     */
+    private static String fieldName(J.MethodInvocation chain) {
+        String typeName = null;
+        boolean prettyPrinter = false;
+        for (Expression select = chain; select instanceof J.MethodInvocation; select = ((J.MethodInvocation) select).getSelect()) {
+            J.MethodInvocation mi = (J.MethodInvocation) select;
+            prettyPrinter |= mi.getSimpleName().contains("PrettyPrinter");
+            for (Expression argument : mi.getArguments()) {
+                if (argument instanceof J.FieldAccess && "class".equals(((J.FieldAccess) argument).getSimpleName())) {
+                    JavaType.FullyQualified type = TypeUtils.asFullyQualified(((J.FieldAccess) argument).getTarget().getType());
+                    if (type != null) {
+                        typeName = type.getClassName();
+                    }
+                }
+            }
+            if (FACTORY_METHODS.contains(mi.getSimpleName())) {
+                break;
+            }
+        }
+        String suffix = TypeUtils.isOfClassType(chain.getType(), OBJECT_READER) ? "READER" : "WRITER";
+        if (typeName != null) {
+            return HoistedFields.constantName(typeName) + "_" + suffix;
+        }
+        return prettyPrinter ? "PRETTY_PRINTER_" + suffix : suffix;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class CloseJsonParsersWithTryWithResources extends Recipe {
+
+    private static final String JSON_PARSER = "com.fasterxml.jackson.core.JsonParser";
+    private static final String JSON_GENERATOR = "com.fasterxml.jackson.core.JsonGenerator";
+
+    @Override
+    public String getDisplayName() {
+        return "Close `JsonParser` and `JsonGenerator` with try-with-resources";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Parsers and generators only return their buffers to the recycler of their factory when they are closed. " +
+               "A local parser or generator that is closed with an explicit `close()` call later in the same block is " +
+               "declared in a try-with-resources instead, so it is also closed when an exception is thrown or the method " +
+               "returns early. Parsers and generators that are never closed are left alone, as closing these would also " +
+               "close the stream they read from or write to.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(Preconditions.or(new UsesType<>(JSON_PARSER, false), new UsesType<>(JSON_GENERATOR, false)),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                        J.Block b = super.visitBlock(block, ctx);
+                        List<Statement> statements = b.getStatements();
+                        for (int i = 0; i < statements.size(); i++) {
+                            int close = closedAt(statements, i);
+                            if (close < 0) {
+                                continue;
+                            }
+                            J.VariableDeclarations vd = (J.VariableDeclarations) statements.get(i);
+                            List<Statement> rewritten = new ArrayList<>(statements.subList(0, i));
+                            rewritten.add(tryWithResources(vd, statements.subList(i + 1, close), ctx));
+                            rewritten.addAll(statements.subList(close + 1, statements.size()));
+                            // Continue after the try, as the statements in it have been visited already
+                            statements = rewritten;
+                        }
+                        return b.withStatements(statements);
+                    }
+
+                    private J.Try tryWithResources(J.VariableDeclarations vd, List<Statement> body, ExecutionContext ctx) {
+                        J.VariableDeclarations.NamedVariable resource = vd.getVariables().get(0);
+                        Cursor statementCursor = new Cursor(getCursor(), vd);
+                        J.Try t = JavaTemplate.builder(
+                                        "try (" + vd.getTypeExpression().printTrimmed(statementCursor) + " " +
+                                        resource.getSimpleName() + " = #{any()}) {\n}")
+                                .contextSensitive()
+                                .build()
+                                .apply(statementCursor, vd.getCoordinates().replace(), resource.getInitializer());
+                        t = t.withBody(t.getBody().withStatements(body));
+                        return autoFormat(t.withPrefix(vd.getPrefix()), ctx, getCursor());
+                    }
+                });
+    }
+
+    /**
+     * @return the index of the {@code close()} call on the parser or generator declared at the given index,
+     * if its declaration and uses can be moved into a try-with-resources, or {@code -1} otherwise.
+     */
+    private static int closedAt(List<Statement> statements, int index) {
+        if (!(statements.get(index) instanceof J.VariableDeclarations)) {
+            return -1;
+        }
+        J.VariableDeclarations vd = (J.VariableDeclarations) statements.get(index);
+        if (vd.getVariables().size() != 1 || vd.getTypeExpression() == null ||
+            !(vd.getVariables().get(0).getInitializer() instanceof J.MethodInvocation) ||
+            !(TypeUtils.isOfClassType(vd.getType(), JSON_PARSER) || TypeUtils.isOfClassType(vd.getType(), JSON_GENERATOR))) {
+            return -1;
+        }
+        J.VariableDeclarations.NamedVariable resource = vd.getVariables().get(0);
+        for (int i = index + 1; i < statements.size(); i++) {
+            Statement statement = statements.get(i);
+            if (statement instanceof J.MethodInvocation && "close".equals(((J.MethodInvocation) statement).getSimpleName()) &&
+                ((J.MethodInvocation) statement).getArguments().stream().allMatch(J.Empty.class::isInstance) &&
+                ((J.MethodInvocation) statement).getSelect() instanceof J.Identifier &&
+                SingleUseVariables.isReferenceTo((J.Identifier) ((J.MethodInvocation) statement).getSelect(), resource)) {
+                List<Statement> after = statements.subList(i + 1, statements.size());
+                return isReferencedIn(resource, after) || declaresVariablesUsedIn(statements.subList(index + 1, i), after) ? -1 : i;
+            }
+            if (!onlyCalledOn(resource, statement)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return whether the parser or generator is only used to call methods on, or passed to methods, so that it does
+     * not escape the block, and is not closed or reassigned elsewhere.
+     */
+    private static boolean onlyCalledOn(J.VariableDeclarations.NamedVariable resource, Statement statement) {
+        AtomicBoolean onlyCalledOn = new AtomicBoolean(true);
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                if (SingleUseVariables.isReferenceTo(identifier, resource)) {
+                    Object parent = getCursor().getParentTreeCursor().getValue();
+                    if (!(parent instanceof J.MethodInvocation) ||
+                        (((J.MethodInvocation) parent).getSelect() == identifier && "close".equals(((J.MethodInvocation) parent).getSimpleName()))) {
+                        onlyCalledOn.set(false);
+                    }
+                }
+                return identifier;
+            }
+        }.visit(statement, 0);
+        return onlyCalledOn.get();
+    }
+
+    private static boolean isReferencedIn(J.VariableDeclarations.NamedVariable variable, List<Statement> statements) {
+        AtomicBoolean referenced = new AtomicBoolean();
+        JavaIsoVisitor<Integer> visitor = new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                if (SingleUseVariables.isReferenceTo(identifier, variable)) {
+                    referenced.set(true);
+                }
+                return identifier;
+            }
+        };
+        for (Statement statement : statements) {
+            visitor.visit(statement, 0);
+        }
+        return referenced.get();
+    }
+
+    /**
+     * @return whether variables declared in the statements that move into the try are still used after it.
+     */
+    private static boolean declaresVariablesUsedIn(List<Statement> moved, List<Statement> after) {
+        for (Statement statement : moved) {
+            if (statement instanceof J.VariableDeclarations) {
+                for (J.VariableDeclarations.NamedVariable variable : ((J.VariableDeclarations) statement).getVariables()) {
+                    if (isReferencedIn(variable, after)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.SemanticallyEqual;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class CollapseJsonTreeRoundTrips extends Recipe {
+
+    private static final String SERIALIZATION_FEATURE = "com.fasterxml.jackson.databind.SerializationFeature";
+
+    private static final MethodMatcher READ_TREE = new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper readTree(..)", true);
+    private static final MethodMatcher TREE_TO_VALUE = new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper treeToValue(com.fasterxml.jackson.core.TreeNode, ..)", true);
+    private static final MethodMatcher VALUE_TO_TREE = new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper valueToTree(java.lang.Object)", true);
+    private static final MethodMatcher WRITE_VALUE_AS_STRING = new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper writeValueAsString(java.lang.Object)", true);
+    private static final MethodMatcher WRITE_VALUE_AS_BYTES = new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper writeValueAsBytes(java.lang.Object)", true);
+
+    @Override
+    public String getDisplayName() {
+        return "Collapse `JsonNode` round trips";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Reading a tree with `readTree` only to bind it with `treeToValue` builds a full `JsonNode` tree that is thrown away. " +
+               "The pair is replaced with a single `readValue` call when the tree is not used otherwise. " +
+               "Likewise `valueToTree` followed by `writeValueAsString` or `writeValueAsBytes` writes the value directly, " +
+               "when the mapper is constructed in the same source file, as a local variable or a static final field, " +
+               "and that source file does not enable `SerializationFeature.WRAP_ROOT_VALUE`, which `valueToTree` ignores but " +
+               "`writeValueAsString` applies. Mappers which are passed in or injected may have been configured elsewhere. Note that `readValue` fails on empty input with a `MismatchedInputException`, " +
+               "where `readTree` returns a `MissingNode` that `treeToValue` turns into `null`.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(Preconditions.or(new UsesMethod<>(READ_TREE), new UsesMethod<>(VALUE_TO_TREE)), new JavaVisitor<ExecutionContext>() {
+            private boolean wrapsRootValue;
+
+            @Override
+            public J visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                wrapsRootValue = enablesWrapRootValue(cu);
+                return super.visitCompilationUnit(cu, ctx);
+            }
+
+            @Override
+            public J visitBlock(J.Block block, ExecutionContext ctx) {
+                // Inline trees that are only used once, in the next statement, so the calls can be collapsed below
+                List<Statement> statements = SingleUseVariables.inlineIntoNextStatement(
+                        block.getStatements(), method -> collapsibleArgument(method, wrapsRootValue, getCursor()) != null);
+                if (statements != block.getStatements()) {
+                    maybeRemoveImport("com.fasterxml.jackson.databind.JsonNode");
+                }
+                return super.visitBlock(block.withStatements(statements), ctx);
+            }
+
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation mi = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                J.MethodInvocation inner = collapsibleArgument(mi, wrapsRootValue, getCursor());
+                if (inner == null) {
+                    return mi;
+                }
+                Expression value = inner.getArguments().get(0).withPrefix(mi.getArguments().get(0).getPrefix());
+                mi = mi.withArguments(ListUtils.mapFirst(mi.getArguments(), a -> value));
+                if (TREE_TO_VALUE.matches(mi)) {
+                    JavaType.Method type = mi.getMethodType();
+                    if (type != null && inner.getMethodType() != null) {
+                        JavaType sourceType = inner.getMethodType().getParameterTypes().get(0);
+                        type = type.withName("readValue").withParameterTypes(ListUtils.mapFirst(type.getParameterTypes(), p -> sourceType));
+                    }
+                    mi = mi.withName(mi.getName().withSimpleName("readValue").withType(type)).withMethodType(type);
+                }
+                return mi;
+            }
+        });
+    }
+
+    /**
+     * @return the {@code readTree} or {@code valueToTree} call passed to the matching {@code treeToValue}
+     * or {@code writeValueAs*} call on the same mapper, if any. Writes are not collapsed when the root value may be
+     * wrapped, which {@code valueToTree} suppresses, or when the mapper may have been configured elsewhere.
+     */
+    private static J.@Nullable MethodInvocation collapsibleArgument(J.MethodInvocation method, boolean wrapsRootValue, Cursor cursor) {
+        if (method.getArguments().isEmpty() || !(method.getArguments().get(0) instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation inner = (J.MethodInvocation) method.getArguments().get(0);
+        boolean collapsible = (TREE_TO_VALUE.matches(method) && READ_TREE.matches(inner)) ||
+                              (!wrapsRootValue && (WRITE_VALUE_AS_STRING.matches(method) || WRITE_VALUE_AS_BYTES.matches(method)) &&
+                               VALUE_TO_TREE.matches(inner) && isConstructedInFile(method.getSelect(), cursor));
+        return collapsible && isSameMapper(method.getSelect(), inner.getSelect()) ? inner : null;
+    }
+
+    private static boolean isSameMapper(@Nullable Expression select, @Nullable Expression other) {
+        return (select instanceof J.Identifier || select instanceof J.FieldAccess) &&
+               other != null && SemanticallyEqual.areEqual(select, other);
+    }
+
+    /**
+     * @return whether the mapper is a local variable or a static final field of the enclosing class, which is
+     * initialized with a mapper that is constructed right there, so its configuration is all in this source file.
+     */
+    private static boolean isConstructedInFile(@Nullable Expression mapper, Cursor cursor) {
+        JavaType.Variable fieldType = mapper instanceof J.Identifier ? ((J.Identifier) mapper).getFieldType() :
+                mapper instanceof J.FieldAccess ? ((J.FieldAccess) mapper).getName().getFieldType() : null;
+        if (fieldType == null) {
+            return false;
+        }
+        if (fieldType.getOwner() instanceof JavaType.Method) {
+            // A local variable, which is declared in one of the enclosing blocks of the method
+            for (Cursor c = cursor; c.getValue() instanceof J; c = c.getParentTreeCursor()) {
+                Object value = c.getValue();
+                if (value instanceof J.MethodDeclaration || value instanceof J.ClassDeclaration || value instanceof JavaSourceFile) {
+                    return false;
+                }
+                if (value instanceof J.Block) {
+                    J.VariableDeclarations.NamedVariable variable = declaration(((J.Block) value).getStatements(), fieldType.getName());
+                    if (variable != null) {
+                        return isConstruction(variable.getInitializer());
+                    }
+                }
+            }
+            return false;
+        }
+        if (!fieldType.hasFlags(Flag.Static, Flag.Final)) {
+            return false;
+        }
+        J.ClassDeclaration classDecl = cursor.firstEnclosing(J.ClassDeclaration.class);
+        if (classDecl == null || !TypeUtils.isOfType(fieldType.getOwner(), classDecl.getType())) {
+            return false;
+        }
+        J.VariableDeclarations.NamedVariable field = declaration(classDecl.getBody().getStatements(), fieldType.getName());
+        return field != null && isConstruction(field.getInitializer());
+    }
+
+    private static J.VariableDeclarations.@Nullable NamedVariable declaration(List<Statement> statements, String name) {
+        for (Statement statement : statements) {
+            if (statement instanceof J.VariableDeclarations) {
+                for (J.VariableDeclarations.NamedVariable variable : ((J.VariableDeclarations) statement).getVariables()) {
+                    if (variable.getSimpleName().equals(name)) {
+                        return variable;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return whether the initializer constructs a new mapper, such as {@code new ObjectMapper()} or
+     * {@code JsonMapper.builder().build()}, possibly followed by calls which configure it.
+     */
+    private static boolean isConstruction(@Nullable Expression initializer) {
+        Expression e = initializer;
+        while (e instanceof J.MethodInvocation && ((J.MethodInvocation) e).getSelect() instanceof J.MethodInvocation) {
+            e = ((J.MethodInvocation) e).getSelect();
+        }
+        if (e instanceof J.MethodInvocation) {
+            JavaType.Method methodType = ((J.MethodInvocation) e).getMethodType();
+            return "builder".equals(((J.MethodInvocation) e).getSimpleName()) && methodType != null &&
+                   methodType.hasFlags(Flag.Static);
+        }
+        return e instanceof J.NewClass;
+    }
+
+    /**
+     * @return whether the source file refers to {@code SerializationFeature.WRAP_ROOT_VALUE}, such as to enable it on
+     * a mapper.
+     */
+    private static boolean enablesWrapRootValue(J.CompilationUnit cu) {
+        AtomicBoolean wraps = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean found) {
+                JavaType.Variable fieldType = identifier.getFieldType();
+                if ("WRAP_ROOT_VALUE".equals(identifier.getSimpleName()) && fieldType != null &&
+                    TypeUtils.isOfClassType(fieldType.getOwner(), SERIALIZATION_FEATURE)) {
+                    found.set(true);
+                }
+                return identifier;
+            }
+        }.visit(cu, wraps);
+        return wraps.get();
+    }
+}
@@ -0,0 +1,513 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.*;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class ConsolidateJsonIncludeAnnotations extends ScanningRecipe<ConsolidateJsonIncludeAnnotations.Accumulator> {
+
+    private static final String JSON_INCLUDE = "com.fasterxml.jackson.annotation.JsonInclude";
+    private static final String OBJECT_MAPPER = "com.fasterxml.jackson.databind.ObjectMapper";
+    private static final String MAPPER_BUILDER = "com.fasterxml.jackson.databind.cfg.MapperBuilder";
+    private static final AnnotationMatcher JSON_INCLUDE_MATCHER = new AnnotationMatcher("@" + JSON_INCLUDE);
+
+    /**
+     * Annotations which make Jackson detect properties that {@link #propertyNames(Statement)} does not see.
+     */
+    private static final Set<String> PROPERTY_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "com.fasterxml.jackson.annotation.JsonProperty", "com.fasterxml.jackson.annotation.JsonGetter"));
+    private static final Set<String> CLASS_DETECTION_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "com.fasterxml.jackson.annotation.JsonAutoDetect", "lombok.Getter", "lombok.Data", "lombok.Value"));
+
+    private static final Set<String> INCLUSION_METHODS = new HashSet<>(Arrays.asList(
+            "setSerializationInclusion", "setDefaultPropertyInclusion", "serializationInclusion", "defaultPropertyInclusion"));
+
+    @Option(displayName = "Use the mapper default",
+            description = "When all classes with `@JsonInclude` annotations agree on the inclusion, remove the class level annotations " +
+                          "and set the inclusion as the default on the static final mappers instead. " +
+                          "Only use this when the mappers serialize no other classes, as these would pick up the new default as well.",
+            required = false)
+    @Nullable
+    Boolean mapperDefault;
+
+    @Override
+    public String getDisplayName() {
+        return "Consolidate `@JsonInclude` annotations";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Replace `@JsonInclude` annotations on the properties of a class with a single class level annotation, " +
+               "when all properties agree, keeping member level annotations only where the inclusion differs. " +
+               "Classes which extend or are extended by another class are left alone, as the class level annotation is inherited. " +
+               "This leaves Jackson fewer annotations to introspect when it builds each bean serializer. " +
+               "Optionally move the inclusion to the mappers with `setDefaultPropertyInclusion`.";
+    }
+
+    public static class Accumulator {
+        final Set<String> extendedTypes = new HashSet<>();
+        final List<ScannedClass> classes = new ArrayList<>();
+        boolean mapperConfigured;
+        int mappers;
+
+        /**
+         * @return the inclusion all annotated classes agree on, if it can be set on the mappers.
+         */
+        @Nullable
+        String mapperInclusion() {
+            if (mapperConfigured || mappers == 0) {
+                return null;
+            }
+            Set<String> classInclusions = new HashSet<>();
+            for (ScannedClass scanned : classes) {
+                // Classes which turn out to be extended are not consolidated
+                String inclusion = scanned.plannedInclusion != null && !extendedTypes.contains(scanned.type) ?
+                        scanned.plannedInclusion : scanned.classInclusion;
+                if (inclusion != null) {
+                    classInclusions.add(inclusion);
+                } else if (scanned.memberAnnotations) {
+                    return null;
+                }
+            }
+            if (classInclusions.size() != 1) {
+                return null;
+            }
+            String inclusion = classInclusions.iterator().next();
+            return "ALWAYS".equals(inclusion) ? null : inclusion;
+        }
+    }
+
+    @Value
+    static class ScannedClass {
+        String type;
+
+        @Nullable
+        String plannedInclusion;
+
+        @Nullable
+        String classInclusion;
+
+        boolean memberAnnotations;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        boolean scanMappers = Boolean.TRUE.equals(mapperDefault);
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                JavaType.FullyQualified superclass = classDecl.getExtends() == null ? null :
+                        TypeUtils.asFullyQualified(classDecl.getExtends().getType());
+                if (superclass != null) {
+                    acc.extendedTypes.add(superclass.getFullyQualifiedName());
+                }
+                if (scanMappers && classDecl.getType() != null) {
+                    Plan plan = plan(classDecl, Collections.emptySet());
+                    acc.classes.add(new ScannedClass(classDecl.getType().getFullyQualifiedName(),
+                            plan == null ? null : plan.classInclusion, classInclusion(classDecl), hasMemberAnnotations(classDecl)));
+                }
+                return super.visitClassDeclaration(classDecl, ctx);
+            }
+
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, ExecutionContext ctx) {
+                if (scanMappers && isSharedMapper(getCursor())) {
+                    acc.mappers++;
+                }
+                return super.visitVariable(variable, ctx);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                if (scanMappers && INCLUSION_METHODS.contains(method.getSimpleName()) && method.getMethodType() != null &&
+                    (TypeUtils.isAssignableTo(OBJECT_MAPPER, method.getMethodType().getDeclaringType()) ||
+                     TypeUtils.isAssignableTo(MAPPER_BUILDER, method.getMethodType().getDeclaringType()))) {
+                    acc.mapperConfigured = true;
+                }
+                return super.visitMethodInvocation(method, ctx);
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        String mapperInclusion = Boolean.TRUE.equals(mapperDefault) ? acc.mapperInclusion() : null;
+        return Preconditions.check(new UsesType<>(mapperInclusion == null ? JSON_INCLUDE : "com.fasterxml.jackson..*", false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                Plan plan = plan(cd, acc.extendedTypes);
+                if (plan != null) {
+                    cd = consolidate(cd, plan, ctx);
+                }
+                if (mapperInclusion != null && mapperInclusion.equals(classInclusion(cd))) {
+                    cd = removeClassAnnotation(cd);
+                    maybeRemoveImport(JSON_INCLUDE);
+                }
+                return cd;
+            }
+
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, ExecutionContext ctx) {
+                J.VariableDeclarations.NamedVariable v = super.visitVariable(variable, ctx);
+                if (mapperInclusion == null || !isSharedMapper(getCursor()) || v.getInitializer() == null) {
+                    return v;
+                }
+                Expression initializer = v.getInitializer();
+                JavaParser.Builder<?, ?> parser = JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-annotations", "jackson-core", "jackson-databind");
+                maybeAddImport(JSON_INCLUDE);
+                if (initializer instanceof J.NewClass) {
+                    return v.withInitializer(JavaTemplate.builder("#{any(" + OBJECT_MAPPER + ")}.setDefaultPropertyInclusion(JsonInclude.Include." + mapperInclusion + ")")
+                            .imports(JSON_INCLUDE)
+                            .javaParser(parser)
+                            .build()
+                            .apply(new Cursor(getCursor(), initializer), initializer.getCoordinates().replace(), initializer));
+                }
+                return v.withInitializer(JavaTemplate.builder("#{any(com.fasterxml.jackson.databind.json.JsonMapper.Builder)}.serializationInclusion(JsonInclude.Include." + mapperInclusion + ").build()")
+                        .imports(JSON_INCLUDE)
+                        .javaParser(parser)
+                        .build()
+                        .apply(new Cursor(getCursor(), initializer), initializer.getCoordinates().replace(), ((J.MethodInvocation) initializer).getSelect()));
+            }
+
+            private J.ClassDeclaration consolidate(J.ClassDeclaration classDecl, Plan plan, ExecutionContext ctx) {
+                Cursor bodyCursor = new Cursor(updateCursor(classDecl), classDecl.getBody());
+                J.ClassDeclaration cd = classDecl.withBody(classDecl.getBody().withStatements(ListUtils.map(classDecl.getBody().getStatements(), statement -> {
+                    if (plan.redundant.contains(statement.getId())) {
+                        return (Statement) new RemoveAnnotationVisitor(JSON_INCLUDE_MATCHER).visitNonNull(statement, ctx, bodyCursor);
+                    }
+                    if (plan.overrides.contains(statement.getId())) {
+                        JavaCoordinates coordinates = statement instanceof J.MethodDeclaration ?
+                                ((J.MethodDeclaration) statement).getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)) :
+                                ((J.VariableDeclarations) statement).getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName));
+                        return jsonInclude(plan.previousClassInclusion, ctx).apply(new Cursor(bodyCursor, statement), coordinates);
+                    }
+                    return statement;
+                })));
+                if (plan.classInclusion.equals(plan.previousClassInclusion)) {
+                    return cd;
+                }
+                Cursor classCursor = updateCursor(cd);
+                J.Annotation existing = findJsonInclude(cd.getLeadingAnnotations());
+                if (existing != null) {
+                    return cd.withLeadingAnnotations(ListUtils.map(cd.getLeadingAnnotations(), a -> a != existing ? a :
+                            jsonInclude(plan.classInclusion, ctx).apply(new Cursor(classCursor, a), a.getCoordinates().replace())));
+                }
+                return jsonInclude(plan.classInclusion, ctx)
+                        .apply(classCursor, cd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+            }
+        });
+    }
+
+    private static JavaTemplate jsonInclude(@Nullable String inclusion, ExecutionContext ctx) {
+        return JavaTemplate.builder("@JsonInclude(value = JsonInclude.Include." + inclusion + ")")
+                .imports(JSON_INCLUDE)
+                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-annotations"))
+                .build();
+    }
+
+    /**
+     * The changes that consolidate the {@code @JsonInclude} annotations of a class.
+     */
+    private static class Plan {
+        final String classInclusion;
+        final @Nullable String previousClassInclusion;
+        // Members of which the annotation matches the class level inclusion
+        final Set<UUID> redundant = new HashSet<>();
+        // Members which relied on the previous class level inclusion, and need to keep it
+        final Set<UUID> overrides = new HashSet<>();
+
+        Plan(String classInclusion, @Nullable String previousClassInclusion) {
+            this.classInclusion = classInclusion;
+            this.previousClassInclusion = previousClassInclusion;
+        }
+    }
+
+    /**
+     * @return how to consolidate the {@code @JsonInclude} annotations of the class, if that leaves fewer annotations.
+     * Classes with a superclass are skipped, as the class level annotation would apply to the inherited properties too.
+     * So are classes which are extended, as Jackson applies the class level annotation to their subclasses as well.
+     * So are classes with properties that are not found by the default visibility rules, such as private fields
+     * annotated with {@code @JsonProperty} or Lombok getters.
+     * Without a class level annotation all properties need to be annotated, as the default inclusion is not known.
+     */
+    private static @Nullable Plan plan(J.ClassDeclaration classDecl, Set<String> extendedTypes) {
+        if (classDecl.getKind() != J.ClassDeclaration.Kind.Type.Class || classDecl.getExtends() != null ||
+            (classDecl.getType() != null && extendedTypes.contains(classDecl.getType().getFullyQualifiedName())) ||
+            hasUndetectedProperties(classDecl)) {
+            return null;
+        }
+        String previous = null;
+        J.Annotation classAnnotation = findJsonInclude(classDecl.getLeadingAnnotations());
+        if (classAnnotation != null && (previous = inclusion(classAnnotation)) == null) {
+            return null;
+        }
+
+        Map<String, List<Statement>> properties = new LinkedHashMap<>();
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            for (String name : propertyNames(statement)) {
+                properties.computeIfAbsent(name, k -> new ArrayList<>()).add(statement);
+            }
+        }
+        Map<UUID, String> annotated = new HashMap<>();
+        Map<String, List<String>> propertiesByInclusion = new LinkedHashMap<>();
+        List<String> implicit = new ArrayList<>();
+        for (Map.Entry<String, List<Statement>> property : properties.entrySet()) {
+            Set<String> inclusions = new HashSet<>();
+            for (Statement member : property.getValue()) {
+                J.Annotation annotation = findJsonInclude(leadingAnnotations(member));
+                if (annotation != null) {
+                    String inclusion = inclusion(annotation);
+                    if (inclusion == null) {
+                        return null;
+                    }
+                    inclusions.add(inclusion);
+                    annotated.put(member.getId(), inclusion);
+                }
+            }
+            if (inclusions.size() > 1 || (inclusions.isEmpty() && previous == null)) {
+                return null;
+            }
+            if (inclusions.isEmpty()) {
+                implicit.add(property.getKey());
+            }
+            String inclusion = inclusions.isEmpty() ? previous : inclusions.iterator().next();
+            propertiesByInclusion.computeIfAbsent(inclusion, k -> new ArrayList<>()).add(property.getKey());
+        }
+        if (annotated.isEmpty()) {
+            return null;
+        }
+
+        String common = previous;
+        for (Map.Entry<String, List<String>> inclusion : propertiesByInclusion.entrySet()) {
+            int count = inclusion.getValue().size();
+            if (common == null || count > propertiesByInclusion.getOrDefault(common, Collections.emptyList()).size()) {
+                common = inclusion.getKey();
+            }
+        }
+        Plan plan = new Plan(common, previous);
+        annotated.forEach((id, inclusion) -> {
+            if (inclusion.equals(plan.classInclusion)) {
+                plan.redundant.add(id);
+            }
+        });
+        if (!common.equals(previous)) {
+            for (String property : implicit) {
+                plan.overrides.add(properties.get(property).get(0).getId());
+            }
+        }
+        int added = plan.overrides.size() + (previous == null ? 1 : 0);
+        return plan.redundant.size() > added ? plan : null;
+    }
+
+    /**
+     * @return the names of the properties the member declares, following the default Jackson visibility rules,
+     * or for any member that is annotated with {@code @JsonInclude}.
+     */
+    private static List<String> propertyNames(Statement member) {
+        if (member instanceof J.VariableDeclarations) {
+            J.VariableDeclarations vd = (J.VariableDeclarations) member;
+            if (vd.hasModifier(J.Modifier.Type.Static) || vd.hasModifier(J.Modifier.Type.Transient) ||
+                (!vd.hasModifier(J.Modifier.Type.Public) && findJsonInclude(vd.getLeadingAnnotations()) == null)) {
+                return Collections.emptyList();
+            }
+            List<String> names = new ArrayList<>();
+            for (J.VariableDeclarations.NamedVariable variable : vd.getVariables()) {
+                names.add(variable.getSimpleName());
+            }
+            return names;
+        }
+        if (member instanceof J.MethodDeclaration) {
+            J.MethodDeclaration md = (J.MethodDeclaration) member;
+            String name = md.getSimpleName();
+            int prefix = name.startsWith("get") ? 3 : name.startsWith("is") ? 2 : 0;
+            if (prefix == 0 || name.length() == prefix || !Character.isUpperCase(name.charAt(prefix)) ||
+                md.isConstructor() || md.hasModifier(J.Modifier.Type.Static) ||
+                !(md.getParameters().isEmpty() || md.getParameters().get(0) instanceof J.Empty) ||
+                md.getReturnTypeExpression() == null || md.getReturnTypeExpression().getType() == JavaType.Primitive.Void ||
+                (!md.hasModifier(J.Modifier.Type.Public) && findJsonInclude(md.getLeadingAnnotations()) == null)) {
+                return Collections.emptyList();
+            }
+            // Lower case the leading upper case characters, as Jackson does by default
+            char[] property = name.substring(prefix).toCharArray();
+            for (int i = 0; i < property.length && Character.isUpperCase(property[i]); i++) {
+                property[i] = Character.toLowerCase(property[i]);
+            }
+            return Collections.singletonList(new String(property));
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * @return whether Jackson may find properties of the class which {@link #propertyNames(Statement)} does not,
+     * because of annotations which change the visibility or generate getters.
+     */
+    private static boolean hasUndetectedProperties(J.ClassDeclaration classDecl) {
+        if (hasAnyAnnotation(classDecl.getLeadingAnnotations(), CLASS_DETECTION_ANNOTATIONS)) {
+            return true;
+        }
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (!(statement instanceof J.MethodDeclaration) && !(statement instanceof J.VariableDeclarations)) {
+                continue;
+            }
+            List<J.Annotation> annotations = leadingAnnotations(statement);
+            if ((hasAnyAnnotation(annotations, PROPERTY_ANNOTATIONS) && propertyNames(statement).isEmpty()) ||
+                hasAnyAnnotation(annotations, CLASS_DETECTION_ANNOTATIONS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether any of the annotations is one of the types. Annotations of which the type is not known, such
+     * as Lombok annotations without Lombok on the classpath, are matched on their simple name.
+     */
+    private static boolean hasAnyAnnotation(List<J.Annotation> annotations, Set<String> types) {
+        for (J.Annotation annotation : annotations) {
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+            for (String fqn : types) {
+                if (type != null && !(type instanceof JavaType.Unknown) ? TypeUtils.isOfClassType(type, fqn) :
+                        fqn.endsWith("." + annotation.getSimpleName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static List<J.Annotation> leadingAnnotations(Statement member) {
+        return member instanceof J.MethodDeclaration ?
+                ((J.MethodDeclaration) member).getLeadingAnnotations() :
+                ((J.VariableDeclarations) member).getLeadingAnnotations();
+    }
+
+    private static J.@Nullable Annotation findJsonInclude(List<J.Annotation> annotations) {
+        for (J.Annotation annotation : annotations) {
+            if (JSON_INCLUDE_MATCHER.matches(annotation)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the inclusion of an annotation that only sets the value, such as {@code @JsonInclude(Include.NON_NULL)},
+     * or {@code null} for annotations that also set the content inclusion or filters.
+     */
+    private static @Nullable String inclusion(J.Annotation annotation) {
+        List<Expression> arguments = annotation.getArguments();
+        if (arguments == null || arguments.isEmpty() || arguments.get(0) instanceof J.Empty) {
+            return "ALWAYS";
+        }
+        if (arguments.size() != 1) {
+            return null;
+        }
+        Expression value = arguments.get(0);
+        if (value instanceof J.Assignment) {
+            J.Assignment assignment = (J.Assignment) value;
+            if (!(assignment.getVariable() instanceof J.Identifier) ||
+                !"value".equals(((J.Identifier) assignment.getVariable()).getSimpleName())) {
+                return null;
+            }
+            value = assignment.getAssignment();
+        }
+        if (value instanceof J.FieldAccess) {
+            return ((J.FieldAccess) value).getSimpleName();
+        }
+        return value instanceof J.Identifier ? ((J.Identifier) value).getSimpleName() : null;
+    }
+
+    private static @Nullable String classInclusion(J.ClassDeclaration classDecl) {
+        J.Annotation annotation = findJsonInclude(classDecl.getLeadingAnnotations());
+        return annotation == null ? null : inclusion(annotation);
+    }
+
+    private static boolean hasMemberAnnotations(J.ClassDeclaration classDecl) {
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if ((statement instanceof J.MethodDeclaration || statement instanceof J.VariableDeclarations) &&
+                findJsonInclude(leadingAnnotations(statement)) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether the variable is a static final mapper field, created with {@code new ObjectMapper()}
+     * or a mapper builder, on which a default inclusion can be set.
+     */
+    static boolean isSharedMapper(Cursor variableCursor) {
+        J.VariableDeclarations.NamedVariable variable = variableCursor.getValue();
+        Cursor declarations = variableCursor.getParentTreeCursor();
+        if (!(declarations.getValue() instanceof J.VariableDeclarations)) {
+            return false;
+        }
+        J.VariableDeclarations vd = declarations.getValue();
+        if (!vd.hasModifier(J.Modifier.Type.Static) || !vd.hasModifier(J.Modifier.Type.Final) ||
+            !TypeUtils.isOfClassType(vd.getType(), OBJECT_MAPPER) ||
+            !(declarations.getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration)) {
+            return false;
+        }
+        Expression initializer = variable.getInitializer();
+        if (initializer instanceof J.NewClass) {
+            return ((J.NewClass) initializer).getBody() == null && TypeUtils.isOfClassType(initializer.getType(), OBJECT_MAPPER);
+        }
+        return initializer instanceof J.MethodInvocation &&
+               "build".equals(((J.MethodInvocation) initializer).getSimpleName()) &&
+               ((J.MethodInvocation) initializer).getSelect() != null &&
+               TypeUtils.isAssignableTo(MAPPER_BUILDER, ((J.MethodInvocation) initializer).getSelect().getType());
+    }
+
+    /**
+     * Remove the class level annotation, moving its prefix to whatever comes next in the class declaration.
+     */
+    private static J.ClassDeclaration removeClassAnnotation(J.ClassDeclaration classDecl) {
+        J.Annotation annotation = findJsonInclude(classDecl.getLeadingAnnotations());
+        if (annotation == null) {
+            return classDecl;
+        }
+        boolean first = classDecl.getLeadingAnnotations().get(0) == annotation;
+        J.ClassDeclaration cd = classDecl.withLeadingAnnotations(ListUtils.map(classDecl.getLeadingAnnotations(), a -> a == annotation ? null : a));
+        if (!first) {
+            return cd;
+        }
+        Space prefix = annotation.getPrefix();
+        if (!cd.getLeadingAnnotations().isEmpty()) {
+            return cd.withLeadingAnnotations(ListUtils.mapFirst(cd.getLeadingAnnotations(), a -> a.withPrefix(prefix)));
+        }
+        if (!cd.getModifiers().isEmpty()) {
+            return cd.withModifiers(ListUtils.mapFirst(cd.getModifiers(), m -> m.withPrefix(prefix)));
+        }
+        return cd.getPadding().withKind(cd.getPadding().getKind().withPrefix(prefix));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Shared logic for the recipes that find custom serializers and deserializers, the types they handle,
+ * and where they are used.
+ */
+final class CustomSerializers {
+
+    static final String JSON_SERIALIZER = "com.fasterxml.jackson.databind.JsonSerializer";
+    static final String JSON_DESERIALIZER = "com.fasterxml.jackson.databind.JsonDeserializer";
+
+    /**
+     * The serializer and deserializer base classes of which the type parameter is the type that is handled.
+     */
+    static final Set<String> SERIALIZER_BASE_CLASSES = new HashSet<>(Arrays.asList(
+            JSON_SERIALIZER,
+            "com.fasterxml.jackson.databind.ser.std.StdSerializer",
+            "com.fasterxml.jackson.databind.ser.std.StdScalarSerializer"));
+
+    static final Set<String> DESERIALIZER_BASE_CLASSES = new HashSet<>(Arrays.asList(
+            JSON_DESERIALIZER,
+            "com.fasterxml.jackson.databind.deser.std.StdDeserializer",
+            "com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer"));
+
+    private CustomSerializers() {
+    }
+
+    /**
+     * @return the type a serializer or deserializer handles, from the type parameter of the base class it extends.
+     */
+    static JavaType.@Nullable FullyQualified handledType(JavaType.FullyQualified serializer, Set<String> baseClasses) {
+        for (JavaType.FullyQualified type = serializer.getSupertype(); type != null; type = type.getSupertype()) {
+            if (baseClasses.contains(type.getFullyQualifiedName())) {
+                JavaType.Parameterized parameterized = TypeUtils.asParameterized(type);
+                if (parameterized == null || parameterized.getTypeParameters().size() != 1 ||
+                    parameterized.getTypeParameters().get(0) instanceof JavaType.GenericTypeVariable) {
+                    return null;
+                }
+                return TypeUtils.asFullyQualified(parameterized.getTypeParameters().get(0));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the serializer or deserializer class the identifier refers to, such as in {@code using = DateSerializer.class}
+     * or {@code new DateSerializer()}, if the reference is from outside of its own declaration and not an import.
+     * Counting these tells whether a serializer is used anywhere else than in the places a recipe rewrites.
+     */
+    static @Nullable String referencedSerializer(J.Identifier identifier, Cursor cursor) {
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(identifier.getType());
+        if (type == null || type instanceof JavaType.Parameterized ||
+            !(TypeUtils.isAssignableTo(JSON_SERIALIZER, type) || TypeUtils.isAssignableTo(JSON_DESERIALIZER, type)) ||
+            cursor.firstEnclosing(J.Import.class) != null || isDeclaredIn(type, cursor)) {
+            return null;
+        }
+        return type.getFullyQualifiedName();
+    }
+
+    private static boolean isDeclaredIn(JavaType.FullyQualified type, Cursor cursor) {
+        for (Iterator<Object> it = cursor.getPath(J.ClassDeclaration.class::isInstance); it.hasNext(); ) {
+            if (TypeUtils.isOfType(((J.ClassDeclaration) it.next()).getType(), type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.singletonList;
+
+public class GuardJsonSerializationInLogStatements extends Recipe {
+
+    private static final String JUL_LEVEL = "java.util.logging.Level";
+
+    private static final List<MethodMatcher> WRITE_VALUE_AS = Arrays.asList(
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper writeValueAsString(java.lang.Object)", true),
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper writeValueAsBytes(java.lang.Object)", true),
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectWriter writeValueAsString(java.lang.Object)", true),
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectWriter writeValueAsBytes(java.lang.Object)", true));
+
+    /**
+     * The SLF4J and Log4j loggers, and the methods that check whether their levels below INFO are enabled.
+     */
+    private static final List<String> LEVEL_LOGGERS = Arrays.asList(
+            "org.slf4j.Logger", "org.apache.logging.log4j.Logger", "org.apache.log4j.Category");
+    private static final Map<String, String> LEVEL_CHECKS = new HashMap<>();
+
+    static {
+        LEVEL_CHECKS.put("debug", "isDebugEnabled");
+        LEVEL_CHECKS.put("trace", "isTraceEnabled");
+    }
+
+    /**
+     * The {@code java.util.logging} levels below INFO.
+     */
+    private static final Set<String> JUL_LEVELS = new HashSet<>(Arrays.asList("CONFIG", "FINE", "FINER", "FINEST", "ALL"));
+
+    @Override
+    public String getDisplayName() {
+        return "Guard JSON serialization in debug log statements";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Log statements such as `log.debug(\"payload {}\", mapper.writeValueAsString(payload))` serialize the " +
+               "payload even when the level is disabled, as the arguments are evaluated before the logger checks its " +
+               "level. SLF4J, Log4j and `java.util.logging` calls below INFO that pass the result of " +
+               "`writeValueAsString` or `writeValueAsBytes` are wrapped in a check of the level, such as " +
+               "`if (log.isDebugEnabled())`. Lazy suppliers are not used, as `writeValueAsString` throws a checked " +
+               "`JsonProcessingException` which a `Supplier` can not throw. Statements in the `then` branch of an `if` " +
+               "that already checks a level of the same logger are left alone.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(Preconditions.or(
+                new UsesMethod<>(WRITE_VALUE_AS.get(0)), new UsesMethod<>(WRITE_VALUE_AS.get(1)),
+                new UsesMethod<>(WRITE_VALUE_AS.get(2)), new UsesMethod<>(WRITE_VALUE_AS.get(3))), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                J.Block b = super.visitBlock(block, ctx);
+                return b.withStatements(ListUtils.map(b.getStatements(), statement -> {
+                    if (!(statement instanceof J.MethodInvocation) || !serializesArguments((J.MethodInvocation) statement)) {
+                        return statement;
+                    }
+                    Cursor statementCursor = new Cursor(getCursor(), statement);
+                    String condition = levelCheck((J.MethodInvocation) statement, statementCursor);
+                    if (condition == null ||
+                        isGuarded(getCursor(), Objects.requireNonNull(((J.MethodInvocation) statement).getSelect()).printTrimmed(statementCursor))) {
+                        return statement;
+                    }
+                    return guard(statement, condition, ctx);
+                }));
+            }
+
+            private J.If guard(Statement statement, String condition, ExecutionContext ctx) {
+                Cursor statementCursor = new Cursor(getCursor(), statement);
+                if (condition.contains("Level.")) {
+                    maybeAddImport(JUL_LEVEL);
+                }
+                J.If guard = JavaTemplate.builder("if (" + condition + ") {\n}")
+                        .contextSensitive()
+                        .imports(JUL_LEVEL)
+                        .build()
+                        .apply(statementCursor, statement.getCoordinates().replace());
+                J.Block then = (J.Block) guard.getThenPart();
+                guard = guard.withThenPart(then.withStatements(singletonList(statement)));
+                return autoFormat(guard.withPrefix(statement.getPrefix()), ctx, getCursor());
+            }
+        });
+    }
+
+    /**
+     * @return the condition which checks whether the level of the log statement is enabled, or {@code null} if it
+     * is not a log statement below INFO.
+     */
+    private static @Nullable String levelCheck(J.MethodInvocation method, Cursor cursor) {
+        JavaType.Method methodType = method.getMethodType();
+        if (methodType == null || method.getSelect() == null || method.getArguments().isEmpty()) {
+            return null;
+        }
+        String logger = method.getSelect().printTrimmed(cursor);
+        JavaType.FullyQualified declaringType = methodType.getDeclaringType();
+        for (String levelLogger : LEVEL_LOGGERS) {
+            if (TypeUtils.isAssignableTo(levelLogger, declaringType) && LEVEL_CHECKS.containsKey(method.getSimpleName())) {
+                Expression first = method.getArguments().get(0);
+                // A marker may enable a level which is otherwise disabled
+                String marker = TypeUtils.isOfClassType(first.getType(), "org.slf4j.Marker") ||
+                                TypeUtils.isOfClassType(first.getType(), "org.apache.logging.log4j.Marker") ?
+                        first.printTrimmed(cursor) : "";
+                return logger + "." + LEVEL_CHECKS.get(method.getSimpleName()) + "(" + marker + ")";
+            }
+        }
+        if (TypeUtils.isOfClassType(declaringType, "java.util.logging.Logger")) {
+            String name = method.getSimpleName().toUpperCase(Locale.ROOT);
+            if (JUL_LEVELS.contains(name)) {
+                return logger + ".isLoggable(Level." + name + ")";
+            }
+            Expression level = method.getArguments().get(0);
+            if (("log".equals(method.getSimpleName()) || "logp".equals(method.getSimpleName())) && isJulLevelBelowInfo(level)) {
+                return logger + ".isLoggable(" + level.printTrimmed(cursor) + ")";
+            }
+        }
+        return null;
+    }
+
+    private static boolean isJulLevelBelowInfo(Expression level) {
+        if (!TypeUtils.isOfClassType(level.getType(), JUL_LEVEL)) {
+            return false;
+        }
+        if (level instanceof J.FieldAccess) {
+            return JUL_LEVELS.contains(((J.FieldAccess) level).getSimpleName());
+        }
+        return level instanceof J.Identifier && JUL_LEVELS.contains(((J.Identifier) level).getSimpleName());
+    }
+
+    /**
+     * @return whether any of the arguments serializes a value with Jackson, other than in a lambda which is
+     * already evaluated lazily.
+     */
+    private static boolean serializesArguments(J.MethodInvocation method) {
+        AtomicBoolean serializes = new AtomicBoolean();
+        JavaIsoVisitor<Integer> visitor = new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation mi, Integer p) {
+                for (MethodMatcher matcher : WRITE_VALUE_AS) {
+                    if (matcher.matches(mi)) {
+                        serializes.set(true);
+                    }
+                }
+                return super.visitMethodInvocation(mi, p);
+            }
+
+            @Override
+            public J.Lambda visitLambda(J.Lambda lambda, Integer p) {
+                return lambda;
+            }
+        };
+        for (Expression argument : method.getArguments()) {
+            visitor.visit(argument, 0);
+        }
+        return serializes.get();
+    }
+
+    /**
+     * @return whether the block is in the {@code then} branch of an {@code if} statement which already checks a level
+     * of the same logger. The {@code else} branch runs when the level is disabled, so it is not guarded.
+     */
+    private static boolean isGuarded(Cursor blockCursor, String logger) {
+        Object previous = null;
+        for (Cursor c = blockCursor; c.getValue() instanceof J; c = c.getParentTreeCursor()) {
+            Object value = c.getValue();
+            if (value instanceof J.MethodDeclaration || value instanceof J.Lambda || value instanceof J.ClassDeclaration ||
+                value instanceof JavaSourceFile) {
+                return false;
+            }
+            if (value instanceof J.If && ((J.If) value).getThenPart() == previous &&
+                checksLevel(((J.If) value).getIfCondition(), logger, c)) {
+                return true;
+            }
+            previous = value;
+        }
+        return false;
+    }
+
+    /**
+     * @return whether the condition calls a level check, such as {@code isDebugEnabled()}, {@code isEnabled(Level.DEBUG)}
+     * or {@code isLoggable(Level.FINE)}, on the logger, other than negated.
+     */
+    private static boolean checksLevel(J condition, String logger, Cursor ifCursor) {
+        AtomicBoolean checksLevel = new AtomicBoolean();
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Unary visitUnary(J.Unary unary, Integer p) {
+                return unary.getOperator() == J.Unary.Type.Not ? unary : super.visitUnary(unary, p);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                if ((LEVEL_CHECKS.containsValue(method.getSimpleName()) || "isLoggable".equals(method.getSimpleName()) ||
+                     "isEnabled".equals(method.getSimpleName())) &&
+                    method.getSelect() != null && logger.equals(method.getSelect().printTrimmed(ifCursor))) {
+                    checksLevel.set(true);
+                }
+                return super.visitMethodInvocation(method, p);
+            }
+        }.visit(condition, 0);
+        return checksLevel.get();
+    }
+}
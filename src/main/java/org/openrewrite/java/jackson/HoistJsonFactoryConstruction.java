@@ -0,0 +1,218 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class HoistJsonFactoryConstruction extends Recipe {
+
+    private static final String JSON_FACTORY = "com.fasterxml.jackson.core.JsonFactory";
+
+    /**
+     * Methods that create parsers and generators, without changing the configuration of the factory.
+     */
+    private static final Set<String> CREATE_METHODS = new HashSet<>(Arrays.asList(
+            "createParser", "createGenerator", "createJsonParser", "createJsonGenerator", "createNonBlockingByteArrayParser"));
+
+    @Override
+    public String getDisplayName() {
+        return "Hoist `JsonFactory` construction out of method bodies";
+    }
+
+    @Override
+    public String getDescription() {
+        return "A `JsonFactory` holds the buffer recycler and the symbol tables that its parsers and generators share, " +
+               "which are thrown away when a factory is created on every call. Factories that are created with " +
+               "`new JsonFactory()` in a method body, and only used to create parsers and generators, are replaced with " +
+               "a `private static final` field. An existing shared factory is reused instead, unless its configuration is " +
+               "changed elsewhere in the class, such as with `enable` or `setCodec`.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesType<>(JSON_FACTORY, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                if (!HoistedFields.canDeclareStaticFields(cd, getCursor())) {
+                    return cd;
+                }
+
+                Set<UUID> replacements = new HashSet<>();
+                Set<UUID> removals = new HashSet<>();
+                for (Statement statement : cd.getBody().getStatements()) {
+                    if (statement instanceof J.MethodDeclaration && ((J.MethodDeclaration) statement).getBody() != null) {
+                        findFactories(((J.MethodDeclaration) statement).getBody(), replacements, removals);
+                    }
+                }
+                if (replacements.isEmpty()) {
+                    return cd;
+                }
+
+                // Reuse the shared factory which is already there, unless its configuration is changed, or add one
+                String field = null;
+                Set<String> reconfigured = HoistedFields.reconfiguredFields(cd, JSON_FACTORY, CREATE_METHODS);
+                for (Map.Entry<String, J.VariableDeclarations.NamedVariable> existing : HoistedFields.staticFinalFields(cd).entrySet()) {
+                    if (isNewJsonFactory(existing.getValue().getInitializer()) &&
+                        !reconfigured.contains(HoistedFields.fieldKey(cd, existing.getKey()))) {
+                        field = existing.getKey();
+                        break;
+                    }
+                }
+                if (field == null) {
+                    field = HoistedFields.uniqueName(cd, "JSON_FACTORY", new HashSet<>());
+                    cd = JavaTemplate.builder("private static final JsonFactory " + field + " = new JsonFactory();")
+                            .imports(JSON_FACTORY)
+                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-core"))
+                            .build()
+                            .apply(updateCursor(cd), cd.getBody().getCoordinates().firstStatement());
+                }
+
+                String sharedFactory = field;
+                JavaType.Variable fieldType = HoistedFields.fieldType(cd, sharedFactory);
+                JavaVisitor<ExecutionContext> replaceFactories = new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public J visitBlock(J.Block block, ExecutionContext ctx) {
+                        J.Block b = (J.Block) super.visitBlock(block, ctx);
+                        return b.withStatements(ListUtils.map(b.getStatements(), s -> removals.contains(s.getId()) ? null : s));
+                    }
+
+                    @Override
+                    public J visitIdentifier(J.Identifier identifier, ExecutionContext ctx) {
+                        if (replacements.contains(identifier.getId())) {
+                            return HoistedFields.reference(identifier, sharedFactory, fieldType);
+                        }
+                        return super.visitIdentifier(identifier, ctx);
+                    }
+
+                    @Override
+                    public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                        if (replacements.contains(newClass.getId())) {
+                            return HoistedFields.reference(newClass, sharedFactory, fieldType);
+                        }
+                        return super.visitNewClass(newClass, ctx);
+                    }
+                };
+                Cursor bodyCursor = new Cursor(updateCursor(cd), cd.getBody());
+                return cd.withBody(cd.getBody().withStatements(ListUtils.map(cd.getBody().getStatements(), statement ->
+                        statement instanceof J.MethodDeclaration ?
+                                (Statement) replaceFactories.visitNonNull(statement, ctx, bodyCursor) :
+                                statement)));
+            }
+        });
+    }
+
+    /**
+     * Collect the factories which are created and only used to create parsers and generators: the ids of the inline
+     * {@code new JsonFactory()} expressions and of the references to local factory variables to replace, and the ids
+     * of the local variable declarations to remove.
+     */
+    private static void findFactories(J.Block body, Set<UUID> replacements, Set<UUID> removals) {
+        new JavaIsoVisitor<Set<UUID>>() {
+            @Override
+            public J.Block visitBlock(J.Block block, Set<UUID> found) {
+                List<Statement> statements = block.getStatements();
+                for (int i = 0; i < statements.size(); i++) {
+                    if (!(statements.get(i) instanceof J.VariableDeclarations)) {
+                        continue;
+                    }
+                    J.VariableDeclarations vd = (J.VariableDeclarations) statements.get(i);
+                    if (vd.getVariables().size() != 1 || !isNewJsonFactory(vd.getVariables().get(0).getInitializer())) {
+                        continue;
+                    }
+                    List<UUID> references = onlyCreatesFrom(vd.getVariables().get(0), statements.subList(i + 1, statements.size()));
+                    if (references != null) {
+                        found.addAll(references);
+                        removals.add(vd.getId());
+                    }
+                }
+                return super.visitBlock(block, found);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Set<UUID> found) {
+                if (isNewJsonFactory(method.getSelect()) && CREATE_METHODS.contains(method.getSimpleName())) {
+                    found.add(method.getSelect().getId());
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Set<UUID> found) {
+                // Local classes are handled on their own
+                return classDecl;
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, Set<UUID> found) {
+                return newClass.getBody() == null ? super.visitNewClass(newClass, found) : newClass;
+            }
+        }.visit(body, replacements);
+    }
+
+    /**
+     * @return the references to the local factory variable, if all of these create parsers or generators,
+     * or {@code null} if the factory is used in any other way.
+     */
+    private static @Nullable List<UUID> onlyCreatesFrom(J.VariableDeclarations.NamedVariable variable, List<Statement> statements) {
+        List<UUID> references = new ArrayList<>();
+        AtomicBoolean onlyCreates = new AtomicBoolean(true);
+        JavaIsoVisitor<Integer> visitor = new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                if (SingleUseVariables.isReferenceTo(identifier, variable)) {
+                    Object parent = getCursor().getParentTreeCursor().getValue();
+                    if (parent instanceof J.MethodInvocation && ((J.MethodInvocation) parent).getSelect() == identifier &&
+                        CREATE_METHODS.contains(((J.MethodInvocation) parent).getSimpleName())) {
+                        references.add(identifier.getId());
+                    } else {
+                        onlyCreates.set(false);
+                    }
+                }
+                return identifier;
+            }
+        };
+        for (Statement statement : statements) {
+            visitor.visit(statement, 0);
+        }
+        return onlyCreates.get() ? references : null;
+    }
+
+    private static boolean isNewJsonFactory(@Nullable Expression expression) {
+        if (!(expression instanceof J.NewClass)) {
+            return false;
+        }
+        J.NewClass newClass = (J.NewClass) expression;
+        return newClass.getBody() == null &&
+               TypeUtils.isOfClassType(newClass.getType(), JSON_FACTORY) &&
+               (newClass.getArguments().isEmpty() || newClass.getArguments().get(0) instanceof J.Empty);
+    }
+}
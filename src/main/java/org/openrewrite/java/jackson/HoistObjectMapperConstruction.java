@@ -0,0 +1,379 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+
+public class HoistObjectMapperConstruction extends Recipe {
+
+    private static final String OBJECT_MAPPER = "com.fasterxml.jackson.databind.ObjectMapper";
+    private static final String JSON_MAPPER = "com.fasterxml.jackson.databind.json.JsonMapper";
+
+    /**
+     * Mapper configuration methods and their {@code JsonMapper.Builder} counterparts.
+     */
+    static final Map<String, String> BUILDER_METHODS = new HashMap<>();
+
+    static {
+        BUILDER_METHODS.put("configure", "configure");
+        BUILDER_METHODS.put("enable", "enable");
+        BUILDER_METHODS.put("disable", "disable");
+        BUILDER_METHODS.put("setSerializationInclusion", "serializationInclusion");
+        BUILDER_METHODS.put("setPropertyNamingStrategy", "propertyNamingStrategy");
+        BUILDER_METHODS.put("setDateFormat", "defaultDateFormat");
+        BUILDER_METHODS.put("setTimeZone", "defaultTimeZone");
+        BUILDER_METHODS.put("setLocale", "defaultLocale");
+        BUILDER_METHODS.put("registerModule", "addModule");
+    }
+
+    /**
+     * Methods that use a mapper without changing its configuration.
+     */
+    static final Set<String> READ_METHODS = new HashSet<>(Arrays.asList(
+            "readValue", "readValues", "readTree", "writeValue", "writeValueAsString", "writeValueAsBytes", "writeTree",
+            "convertValue", "treeToValue", "valueToTree", "reader", "readerFor", "readerForUpdating", "readerWithView",
+            "writer", "writerFor", "writerWithView", "writerWithDefaultPrettyPrinter", "createObjectNode",
+            "createArrayNode", "createParser", "createGenerator", "getTypeFactory", "constructType", "canSerialize",
+            "canDeserialize"));
+
+    @Override
+    public String getDisplayName() {
+        return "Hoist `ObjectMapper` construction out of method bodies";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Creating an `ObjectMapper` on every call rebuilds its serializer and deserializer caches each time. " +
+               "Mappers that are created, and configured with constant values only, in a method body are moved into " +
+               "`private static final` fields built with `JsonMapper.builder()`. " +
+               "An existing shared mapper with the same configuration is reused instead, unless its configuration is " +
+               "changed elsewhere in the class.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesType<>(OBJECT_MAPPER, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                if (!HoistedFields.canDeclareStaticFields(cd, getCursor())) {
+                    return cd;
+                }
+
+                Cursor cursor = getCursor();
+                List<MapperCandidate> candidates = new ArrayList<>();
+                for (Statement statement : cd.getBody().getStatements()) {
+                    if (statement instanceof J.MethodDeclaration && ((J.MethodDeclaration) statement).getBody() != null) {
+                        findCandidates((J.MethodDeclaration) statement, cursor, candidates);
+                    }
+                }
+                if (candidates.isEmpty()) {
+                    return cd;
+                }
+
+                // Reuse the shared mappers which are already there, unless their configuration is changed later on,
+                // and add a field per distinct configuration
+                J.ClassDeclaration existing = cd;
+                Set<String> reconfigured = HoistedFields.reconfiguredFields(existing, OBJECT_MAPPER, READ_METHODS);
+                Map<String, String> fieldByConfiguration = new HashMap<>();
+                HoistedFields.staticFinalFields(existing).forEach((name, field) -> {
+                    String configuration = configurationOf(field.getInitializer(), cursor);
+                    if (configuration != null && TypeUtils.isOfClassType(field.getType(), OBJECT_MAPPER) &&
+                        !reconfigured.contains(HoistedFields.fieldKey(existing, name))) {
+                        fieldByConfiguration.putIfAbsent(configuration, name);
+                    }
+                });
+                Set<String> taken = new HashSet<>();
+                Map<String, MapperCandidate> newFields = new LinkedHashMap<>();
+                for (MapperCandidate candidate : candidates) {
+                    if (!fieldByConfiguration.containsKey(candidate.configuration)) {
+                        fieldByConfiguration.put(candidate.configuration, HoistedFields.uniqueName(cd, "MAPPER", taken));
+                        newFields.put(candidate.configuration, candidate);
+                    }
+                }
+
+                List<Map.Entry<String, MapperCandidate>> toAdd = new ArrayList<>(newFields.entrySet());
+                Collections.reverse(toAdd);
+                for (Map.Entry<String, MapperCandidate> field : toAdd) {
+                    cd = addField(cd, fieldByConfiguration.get(field.getKey()), field.getValue(), ctx);
+                }
+
+                Map<String, JavaType.@Nullable Variable> fieldTypes = new HashMap<>();
+                for (String name : fieldByConfiguration.values()) {
+                    fieldTypes.put(name, HoistedFields.fieldType(cd, name));
+                }
+                Map<UUID, String> replacements = new HashMap<>();
+                Set<UUID> removals = new HashSet<>();
+                for (MapperCandidate candidate : candidates) {
+                    replacements.put(candidate.id, fieldByConfiguration.get(candidate.configuration));
+                    removals.addAll(candidate.removals);
+                }
+                J.ClassDeclaration finalCd = cd;
+                return cd.withBody(cd.getBody().withStatements(ListUtils.map(cd.getBody().getStatements(), statement -> {
+                    if (statement instanceof J.MethodDeclaration) {
+                        return (Statement) new ReplaceWithSharedMapper(replacements, removals, fieldTypes)
+                                .visitNonNull(statement, ctx, new Cursor(updateCursor(finalCd), finalCd.getBody()));
+                    }
+                    return statement;
+                })));
+            }
+
+            private J.ClassDeclaration addField(J.ClassDeclaration cd, String name, MapperCandidate candidate, ExecutionContext ctx) {
+                String initializer = "new ObjectMapper()";
+                if (!candidate.builderCalls.isEmpty()) {
+                    initializer = "JsonMapper.builder()" + candidate.builderCalls + ".build()";
+                    maybeAddImport(JSON_MAPPER);
+                }
+                return JavaTemplate.builder("private static final ObjectMapper " + name + " = " + initializer + ";")
+                        .imports(OBJECT_MAPPER, JSON_MAPPER)
+                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-annotations", "jackson-core", "jackson-databind"))
+                        .build()
+                        .apply(updateCursor(cd), cd.getBody().getCoordinates().firstStatement(), candidate.arguments.toArray());
+            }
+        });
+    }
+
+    private static void findCandidates(J.MethodDeclaration method, Cursor cursor, List<MapperCandidate> candidates) {
+        List<Statement> statements = method.getBody().getStatements();
+        for (int i = 0; i < statements.size(); i++) {
+            if (!(statements.get(i) instanceof J.VariableDeclarations)) {
+                continue;
+            }
+            J.VariableDeclarations vd = (J.VariableDeclarations) statements.get(i);
+            if (vd.getVariables().size() != 1 || !isNewObjectMapper(vd.getVariables().get(0).getInitializer())) {
+                continue;
+            }
+            J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+            MapperCandidate candidate = new MapperCandidate(variable.getName().getId());
+            candidate.removals.add(vd.getId());
+
+            // Configuration directly following the construction, which must be constant to be hoisted
+            boolean constant = true;
+            for (int j = i + 1; j < statements.size() && constant; j++) {
+                J.MethodInvocation configure = invocationOn(statements.get(j), variable.getSimpleName());
+                if (configure == null || READ_METHODS.contains(configure.getSimpleName())) {
+                    break;
+                }
+                String builderMethod = BUILDER_METHODS.get(configure.getSimpleName());
+                constant = builderMethod != null && configure.getArguments().stream().allMatch(HoistedFields::isConstant);
+                if (constant) {
+                    candidate.addBuilderCall(builderMethod, configure.getArguments(), cursor);
+                    candidate.removals.add(configure.getId());
+                }
+            }
+            if (constant && isOnlyRead(method.getBody(), variable, candidate.removals)) {
+                candidates.add(candidate);
+            }
+        }
+
+        // Mappers that are constructed and used in a single expression
+        new JavaIsoVisitor<List<MapperCandidate>>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, List<MapperCandidate> found) {
+                J.MethodInvocation mi = super.visitMethodInvocation(method, found);
+                if (isNewObjectMapper(mi.getSelect()) && READ_METHODS.contains(mi.getSimpleName())) {
+                    found.add(new MapperCandidate(mi.getSelect().getId()));
+                }
+                return mi;
+            }
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, List<MapperCandidate> found) {
+                // Local and anonymous classes are handled on their own
+                return classDecl;
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, List<MapperCandidate> found) {
+                return newClass.getBody() == null ? super.visitNewClass(newClass, found) : newClass;
+            }
+        }.visit(method.getBody(), candidates);
+    }
+
+    static boolean isNewObjectMapper(@Nullable Expression expression) {
+        if (!(expression instanceof J.NewClass)) {
+            return false;
+        }
+        J.NewClass newClass = (J.NewClass) expression;
+        return newClass.getBody() == null &&
+               TypeUtils.isOfClassType(newClass.getType(), OBJECT_MAPPER) &&
+               (newClass.getArguments().isEmpty() || newClass.getArguments().get(0) instanceof J.Empty);
+    }
+
+    private static J.@Nullable MethodInvocation invocationOn(Statement statement, String variableName) {
+        if (statement instanceof J.MethodInvocation) {
+            J.MethodInvocation mi = (J.MethodInvocation) statement;
+            if (mi.getSelect() instanceof J.Identifier && variableName.equals(((J.Identifier) mi.getSelect()).getSimpleName())) {
+                return mi;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return whether all references to the local variable, other than in the statements to be removed,
+     * only call methods that leave the configuration of the mapper unchanged.
+     */
+    private static boolean isOnlyRead(J.Block body, J.VariableDeclarations.NamedVariable variable, Set<UUID> removals) {
+        AtomicBooleanHolder onlyRead = new AtomicBooleanHolder();
+        JavaIsoVisitor<AtomicBooleanHolder> visitor = new JavaIsoVisitor<AtomicBooleanHolder>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBooleanHolder holder) {
+                if (isReferenceTo(identifier, variable)) {
+                    Object parent = getCursor().getParentTreeCursor().getValue();
+                    if (!(parent instanceof J.MethodInvocation) ||
+                        ((J.MethodInvocation) parent).getSelect() != identifier ||
+                        !READ_METHODS.contains(((J.MethodInvocation) parent).getSimpleName())) {
+                        holder.value = false;
+                    }
+                }
+                return identifier;
+            }
+        };
+        for (Statement statement : body.getStatements()) {
+            if (!removals.contains(statement.getId())) {
+                visitor.visit(statement, onlyRead);
+            }
+        }
+        return onlyRead.value;
+    }
+
+    private static boolean isReferenceTo(J.Identifier identifier, J.VariableDeclarations.NamedVariable variable) {
+        JavaType.Variable fieldType = identifier.getFieldType();
+        return identifier.getSimpleName().equals(variable.getSimpleName()) &&
+               identifier != variable.getName() &&
+               fieldType != null && fieldType.getOwner() instanceof JavaType.Method;
+    }
+
+    /**
+     * @return the builder calls that produce the mapper created by the initializer, or {@code null}
+     * if it is not a mapper created with {@code new ObjectMapper()} or {@code JsonMapper.builder()...build()}.
+     */
+    private static @Nullable String configurationOf(@Nullable Expression initializer, Cursor cursor) {
+        if (isNewObjectMapper(initializer)) {
+            return "";
+        }
+        if (!(initializer instanceof J.MethodInvocation) || !"build".equals(((J.MethodInvocation) initializer).getSimpleName())) {
+            return null;
+        }
+        Deque<String> calls = new ArrayDeque<>();
+        Expression select = ((J.MethodInvocation) initializer).getSelect();
+        while (select instanceof J.MethodInvocation) {
+            J.MethodInvocation mi = (J.MethodInvocation) select;
+            if ("builder".equals(mi.getSimpleName()) && TypeUtils.isOfClassType(mi.getType(), JSON_MAPPER + "$Builder")) {
+                return String.join("", calls);
+            }
+            calls.addFirst(builderCall(mi.getSimpleName(), mi.getArguments(), cursor));
+            select = mi.getSelect();
+        }
+        return null;
+    }
+
+    private static String builderCall(String builderMethod, List<Expression> arguments, Cursor cursor) {
+        StringJoiner printed = new StringJoiner(", ", "." + builderMethod + "(", ")");
+        for (Expression argument : arguments) {
+            printed.add(argument.printTrimmed(cursor));
+        }
+        return printed.toString();
+    }
+
+    private static class AtomicBooleanHolder {
+        boolean value = true;
+    }
+
+    private static class MapperCandidate {
+        final UUID id;
+        final Set<UUID> removals = new HashSet<>();
+        final List<Expression> arguments = new ArrayList<>();
+        String builderCalls = "";
+        String configuration = "";
+
+        MapperCandidate(UUID id) {
+            this.id = id;
+        }
+
+        void addBuilderCall(String builderMethod, List<Expression> args, Cursor cursor) {
+            StringJoiner placeholders = new StringJoiner(", ", "." + builderMethod + "(", ")");
+            for (Expression arg : args) {
+                placeholders.add("#{any()}");
+                arguments.add(arg);
+            }
+            builderCalls += placeholders;
+            configuration += builderCall(builderMethod, args, cursor);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class ReplaceWithSharedMapper extends JavaVisitor<ExecutionContext> {
+        // Keyed by the id of the local variable name or the inline `new ObjectMapper()`
+        private final Map<UUID, String> replacements;
+        private final Set<UUID> removals;
+        private final Map<String, JavaType.@Nullable Variable> fieldTypes;
+
+        private final Map<String, String> localVariables = new HashMap<>();
+
+        @Override
+        public J visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+            for (J.VariableDeclarations.NamedVariable variable : multiVariable.getVariables()) {
+                String field = replacements.get(variable.getName().getId());
+                if (field != null) {
+                    localVariables.put(variable.getSimpleName(), field);
+                }
+            }
+            return super.visitVariableDeclarations(multiVariable, ctx);
+        }
+
+        @Override
+        public J visitBlock(J.Block block, ExecutionContext ctx) {
+            J.Block b = (J.Block) super.visitBlock(block, ctx);
+            return b.withStatements(ListUtils.map(b.getStatements(), s -> removals.contains(s.getId()) ? null : s));
+        }
+
+        @Override
+        public J visitIdentifier(J.Identifier identifier, ExecutionContext ctx) {
+            String field = localVariables.get(identifier.getSimpleName());
+            JavaType.Variable fieldType = identifier.getFieldType();
+            if (field != null && fieldType != null && fieldType.getOwner() instanceof JavaType.Method) {
+                return HoistedFields.reference(identifier, field, fieldTypes.get(field));
+            }
+            return super.visitIdentifier(identifier, ctx);
+        }
+
+        @Override
+        public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+            String field = replacements.get(newClass.getId());
+            if (field != null) {
+                return HoistedFields.reference(newClass, field, fieldTypes.get(field));
+            }
+            return super.visitNewClass(newClass, ctx);
+        }
+    }
+}
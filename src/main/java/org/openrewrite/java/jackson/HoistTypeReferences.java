@@ -0,0 +1,338 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class HoistTypeReferences extends Recipe {
+
+    private static final List<String> TYPE_REFERENCES = Arrays.asList(
+            "com.fasterxml.jackson.core.type.TypeReference",
+            "org.codehaus.jackson.type.TypeReference");
+
+    private static final List<String> TYPE_FACTORIES = Arrays.asList(
+            "com.fasterxml.jackson.databind.type.TypeFactory",
+            "org.codehaus.jackson.map.type.TypeFactory");
+
+    private static final List<String> OBJECT_MAPPERS = Arrays.asList(
+            "com.fasterxml.jackson.databind.ObjectMapper",
+            "org.codehaus.jackson.map.ObjectMapper");
+
+    private static final Set<String> CONSTRUCT_METHODS = new HashSet<>(Arrays.asList(
+            "constructType", "constructCollectionType", "constructCollectionLikeType", "constructMapType",
+            "constructMapLikeType", "constructArrayType", "constructParametricType", "constructParametrizedType"));
+
+    @Override
+    public String getDisplayName() {
+        return "Hoist `TypeReference` and `JavaType` construction into constants";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Passing `new TypeReference<List<Foo>>() {}` or `getTypeFactory().constructCollectionType(List.class, Foo.class)` " +
+               "to a mapper creates a new instance and resolves the generic type again on every call. " +
+               "These are moved into `private static final` fields when their type arguments are constant, " +
+               "for both the Codehaus and the FasterXML `TypeReference` and `TypeFactory`.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(Preconditions.or(
+                new UsesType<>(TYPE_REFERENCES.get(0), false),
+                new UsesType<>(TYPE_REFERENCES.get(1), false),
+                new UsesType<>(TYPE_FACTORIES.get(0), false),
+                new UsesType<>(TYPE_FACTORIES.get(1), false)), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                Cursor cursor = getCursor();
+                if (!HoistedFields.canDeclareStaticFields(cd, cursor)) {
+                    return cd;
+                }
+
+                Set<String> blank = HoistedFields.blankStaticFinalFields(cd);
+                Map<String, Expression> hoistable = new LinkedHashMap<>();
+                Map<UUID, String> printedById = new HashMap<>();
+                for (Statement statement : cd.getBody().getStatements()) {
+                    if (statement instanceof J.MethodDeclaration && ((J.MethodDeclaration) statement).getBody() != null) {
+                        for (Expression type : findTypes((J.MethodDeclaration) statement, cursor)) {
+                            String mapper = typeFactoryMapper(type);
+                            if (mapper != null && blank.contains(mapper)) {
+                                // The mapper is only assigned after the initializer of the added field has run
+                                continue;
+                            }
+                            String printed = type.printTrimmed(cursor);
+                            hoistable.putIfAbsent(printed, type);
+                            printedById.put(type.getId(), printed);
+                        }
+                    }
+                }
+                if (hoistable.isEmpty()) {
+                    return cd;
+                }
+
+                // Reuse the constants which are already there, and add a field for the others
+                Map<String, String> fieldByType = new HashMap<>();
+                HoistedFields.staticFinalFields(cd).forEach((name, field) -> {
+                    if (field.getInitializer() != null) {
+                        fieldByType.putIfAbsent(field.getInitializer().printTrimmed(cursor), name);
+                    }
+                });
+                Set<String> taken = new HashSet<>();
+                for (Map.Entry<String, Expression> type : hoistable.entrySet()) {
+                    if (!fieldByType.containsKey(type.getKey())) {
+                        String name = HoistedFields.uniqueName(cd, fieldName(type.getValue()), taken);
+                        fieldByType.put(type.getKey(), name);
+                        cd = addField(cd, name, type.getKey(), type.getValue(), cursor);
+                    }
+                }
+
+                Map<UUID, String> replacements = new HashMap<>();
+                Map<String, JavaType.@Nullable Variable> fieldTypes = new HashMap<>();
+                for (Map.Entry<UUID, String> type : printedById.entrySet()) {
+                    String name = fieldByType.get(type.getValue());
+                    replacements.put(type.getKey(), name);
+                    fieldTypes.put(name, HoistedFields.fieldType(cd, name));
+                }
+                JavaVisitor<ExecutionContext> replaceTypes = new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                        String name = replacements.get(newClass.getId());
+                        return name == null ? super.visitNewClass(newClass, ctx) :
+                                HoistedFields.reference(newClass, name, fieldTypes.get(name));
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        String name = replacements.get(method.getId());
+                        return name == null ? super.visitMethodInvocation(method, ctx) :
+                                HoistedFields.reference(method, name, fieldTypes.get(name));
+                    }
+                };
+                Cursor bodyCursor = new Cursor(updateCursor(cd), cd.getBody());
+                return cd.withBody(cd.getBody().withStatements(ListUtils.map(cd.getBody().getStatements(), statement ->
+                        statement instanceof J.MethodDeclaration ?
+                                (Statement) replaceTypes.visitNonNull(statement, ctx, bodyCursor) :
+                                statement)));
+            }
+
+            private J.ClassDeclaration addField(J.ClassDeclaration cd, String name, String initializer, Expression type, Cursor cursor) {
+                String declaredType;
+                if (type instanceof J.NewClass) {
+                    declaredType = ((J.NewClass) type).getClazz().printTrimmed(cursor);
+                } else {
+                    JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type.getType());
+                    declaredType = fq == null ? "JavaType" : fq.getClassName();
+                    if (fq != null) {
+                        maybeAddImport(fq.getFullyQualifiedName());
+                    }
+                }
+                // Context sensitive, as the type arguments may refer to any type visible in the class
+                return JavaTemplate.builder("private static final " + declaredType + " " + name + " = " + initializer + ";")
+                        .contextSensitive()
+                        .build()
+                        .apply(updateCursor(cd), HoistedFields.afterStaticFields(cd));
+            }
+        });
+    }
+
+    /**
+     * @return the type references and constructed types in the method body with constant type arguments.
+     */
+    private static List<Expression> findTypes(J.MethodDeclaration method, Cursor classCursor) {
+        List<Expression> types = new ArrayList<>();
+        new JavaIsoVisitor<List<Expression>>() {
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, List<Expression> found) {
+                if (isConstantTypeReference(newClass)) {
+                    found.add(newClass);
+                    return newClass;
+                }
+                return super.visitNewClass(newClass, found);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, List<Expression> found) {
+                if (isConstantConstructedType(method)) {
+                    found.add(method);
+                    return method;
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, List<Expression> found) {
+                // Local classes are handled on their own
+                return classDecl;
+            }
+        }.visit(method.getBody(), types, new Cursor(classCursor, method));
+        return types;
+    }
+
+    private static boolean isConstantTypeReference(J.NewClass newClass) {
+        if (newClass.getBody() == null || !newClass.getBody().getStatements().isEmpty() ||
+            !(newClass.getClazz() instanceof J.ParameterizedType) ||
+            ((J.ParameterizedType) newClass.getClazz()).getTypeParameters() == null ||
+            ((J.ParameterizedType) newClass.getClazz()).getTypeParameters().get(0) instanceof J.Empty) {
+            // Diamonds infer the type from where they are used
+            return false;
+        }
+        J.ParameterizedType clazz = (J.ParameterizedType) newClass.getClazz();
+        boolean typeReference = false;
+        for (String type : TYPE_REFERENCES) {
+            typeReference |= TypeUtils.isOfClassType(clazz.getClazz().getType(), type);
+        }
+        return typeReference && !referencesTypeVariable(clazz);
+    }
+
+    private static boolean referencesTypeVariable(J tree) {
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean found) {
+                if (identifier.getType() instanceof JavaType.GenericTypeVariable) {
+                    found.set(true);
+                }
+                return identifier;
+            }
+        }.reduce(tree, new AtomicBoolean()).get();
+    }
+
+    private static boolean isConstantConstructedType(J.MethodInvocation method) {
+        if (!CONSTRUCT_METHODS.contains(method.getSimpleName()) || method.getMethodType() == null ||
+            !isOneOf(method.getMethodType().getDeclaringType(), TYPE_FACTORIES)) {
+            return false;
+        }
+        for (Expression argument : method.getArguments()) {
+            if (!(argument instanceof J.Empty) && !HoistedFields.isConstant(argument)) {
+                return false;
+            }
+        }
+        return isConstantTypeFactory(method.getSelect());
+    }
+
+    /**
+     * @return whether the type factory is {@code TypeFactory.defaultInstance()}, or the one of a static final mapper.
+     */
+    private static boolean isConstantTypeFactory(@Nullable Expression select) {
+        if (!(select instanceof J.MethodInvocation)) {
+            return false;
+        }
+        J.MethodInvocation factory = (J.MethodInvocation) select;
+        if ("defaultInstance".equals(factory.getSimpleName())) {
+            return HoistedFields.isConstant(factory);
+        }
+        if (!"getTypeFactory".equals(factory.getSimpleName()) || !isOneOf(factory.getSelect() == null ? null : factory.getSelect().getType(), OBJECT_MAPPERS)) {
+            return false;
+        }
+        Expression mapper = factory.getSelect();
+        JavaType.Variable fieldType = mapper instanceof J.Identifier ? ((J.Identifier) mapper).getFieldType() :
+                mapper instanceof J.FieldAccess ? ((J.FieldAccess) mapper).getName().getFieldType() : null;
+        return fieldType != null && fieldType.hasFlags(Flag.Static, Flag.Final);
+    }
+
+    /**
+     * @return the static final mapper whose type factory constructs the type, or {@code null} if the type is not
+     * constructed from a mapper.
+     */
+    private static @Nullable String typeFactoryMapper(Expression type) {
+        if (!(type instanceof J.MethodInvocation) || !(((J.MethodInvocation) type).getSelect() instanceof J.MethodInvocation)) {
+            return null;
+        }
+        Expression mapper = ((J.MethodInvocation) ((J.MethodInvocation) type).getSelect()).getSelect();
+        for (String objectMapper : OBJECT_MAPPERS) {
+            String field = HoistedFields.staticFinalField(mapper, objectMapper);
+            if (field != null) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isOneOf(@Nullable JavaType type, List<String> fullyQualifiedNames) {
+        for (String fullyQualifiedName : fullyQualifiedNames) {
+            if (TypeUtils.isAssignableTo(fullyQualifiedName, type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Name the field after the type, such as {@code LIST_OF_FOO_TYPE} for both
+     * {@code new TypeReference<List<Foo>>() {}} and {@code constructCollectionType(List.class, Foo.class)}.
+     */
+    private static String fieldName(Expression type) {
+        String name;
+        if (type instanceof J.NewClass) {
+            name = typeName(((J.ParameterizedType) ((J.NewClass) type).getClazz()).getTypeParameters().get(0));
+        } else {
+            List<String> classes = new ArrayList<>();
+            for (Expression argument : ((J.MethodInvocation) type).getArguments()) {
+                if (argument instanceof J.FieldAccess && "class".equals(((J.FieldAccess) argument).getSimpleName())) {
+                    classes.add(typeName(((J.FieldAccess) argument).getTarget()));
+                }
+            }
+            if (classes.isEmpty()) {
+                name = "CONSTRUCTED";
+            } else if (classes.size() == 1) {
+                name = classes.get(0);
+            } else {
+                name = classes.get(0) + "_OF_" + String.join("_AND_", classes.subList(1, classes.size()));
+            }
+        }
+        return name + "_TYPE";
+    }
+
+    private static String typeName(J type) {
+        if (type instanceof J.ParameterizedType) {
+            J.ParameterizedType parameterized = (J.ParameterizedType) type;
+            List<String> arguments = new ArrayList<>();
+            if (parameterized.getTypeParameters() != null) {
+                for (Expression argument : parameterized.getTypeParameters()) {
+                    arguments.add(typeName(argument));
+                }
+            }
+            return typeName(parameterized.getClazz()) + (arguments.isEmpty() ? "" : "_OF_" + String.join("_AND_", arguments));
+        }
+        if (type instanceof J.ArrayType) {
+            return typeName(((J.ArrayType) type).getElementType()) + "_ARRAY";
+        }
+        if (type instanceof J.FieldAccess) {
+            return HoistedFields.constantName(((J.FieldAccess) type).getSimpleName());
+        }
+        if (type instanceof J.Identifier) {
+            return HoistedFields.constantName(((J.Identifier) type).getSimpleName());
+        }
+        if (type instanceof J.Wildcard) {
+            return ((J.Wildcard) type).getBoundedType() == null ? "ANY" : typeName(((J.Wildcard) type).getBoundedType());
+        }
+        return "TYPE";
+    }
+}
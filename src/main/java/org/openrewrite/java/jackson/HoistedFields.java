@@ -0,0 +1,268 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Shared logic for the recipes that move values which are constant, but computed on every call,
+ * into {@code private static final} fields of the enclosing class.
+ */
+final class HoistedFields {
+
+    private HoistedFields() {
+    }
+
+    /**
+     * Only top level and static nested classes can declare static fields on all Java versions.
+     * Enums and interfaces are skipped, as fields can not simply be added as the first statement there.
+     */
+    static boolean canDeclareStaticFields(J.ClassDeclaration classDecl, Cursor classCursor) {
+        return classDecl.getKind() == J.ClassDeclaration.Kind.Type.Class &&
+               (classCursor.getParentTreeCursor().getValue() instanceof JavaSourceFile ||
+                classDecl.hasModifier(J.Modifier.Type.Static));
+    }
+
+    /**
+     * @return {@code true} if the expression only consists of literals, class literals, static final fields
+     * and constructor or static method calls with such arguments, so it can be evaluated once in a field initializer.
+     */
+    static boolean isConstant(@Nullable Expression expression) {
+        if (expression == null) {
+            return false;
+        }
+        if (expression instanceof J.Literal) {
+            return true;
+        }
+        if (expression instanceof J.Parentheses) {
+            return isConstant((Expression) ((J.Parentheses<?>) expression).getTree());
+        }
+        if (expression instanceof J.Unary) {
+            return isConstant(((J.Unary) expression).getExpression());
+        }
+        if (expression instanceof J.Binary) {
+            return isConstant(((J.Binary) expression).getLeft()) && isConstant(((J.Binary) expression).getRight());
+        }
+        if (expression instanceof J.Identifier) {
+            return isStaticFinal(((J.Identifier) expression).getFieldType());
+        }
+        if (expression instanceof J.FieldAccess) {
+            J.FieldAccess fieldAccess = (J.FieldAccess) expression;
+            if ("class".equals(fieldAccess.getSimpleName())) {
+                return true;
+            }
+            return isStaticFinal(fieldAccess.getName().getFieldType());
+        }
+        if (expression instanceof J.NewClass) {
+            J.NewClass newClass = (J.NewClass) expression;
+            return newClass.getBody() == null && newClass.getEnclosing() == null &&
+                   newClass.getArguments().stream().allMatch(HoistedFields::isConstantArgument);
+        }
+        if (expression instanceof J.MethodInvocation) {
+            J.MethodInvocation method = (J.MethodInvocation) expression;
+            return method.getMethodType() != null && method.getMethodType().hasFlags(Flag.Static) &&
+                   (method.getSelect() == null || isTypeReference(method.getSelect())) &&
+                   method.getArguments().stream().allMatch(HoistedFields::isConstantArgument);
+        }
+        return false;
+    }
+
+    private static boolean isConstantArgument(Expression argument) {
+        return argument instanceof J.Empty || isConstant(argument);
+    }
+
+    private static boolean isStaticFinal(JavaType.@Nullable Variable variable) {
+        return variable != null && variable.hasFlags(Flag.Static, Flag.Final);
+    }
+
+    private static boolean isTypeReference(Expression expression) {
+        if (expression instanceof J.Identifier) {
+            return ((J.Identifier) expression).getFieldType() == null &&
+                   expression.getType() instanceof JavaType.FullyQualified;
+        }
+        return expression instanceof J.FieldAccess &&
+               ((J.FieldAccess) expression).getName().getFieldType() == null &&
+               expression.getType() instanceof JavaType.FullyQualified;
+    }
+
+    /**
+     * @return the static final fields of the class, by name, along with their initializers.
+     */
+    static Map<String, J.VariableDeclarations.NamedVariable> staticFinalFields(J.ClassDeclaration classDecl) {
+        Map<String, J.VariableDeclarations.NamedVariable> fields = new LinkedHashMap<>();
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations) {
+                J.VariableDeclarations vd = (J.VariableDeclarations) statement;
+                if (vd.hasModifier(J.Modifier.Type.Static) && vd.hasModifier(J.Modifier.Type.Final)) {
+                    for (J.VariableDeclarations.NamedVariable variable : vd.getVariables()) {
+                        fields.put(variable.getSimpleName(), variable);
+                    }
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * @return the static final fields declared in the class without an initializer, by
+     * {@link #fieldKey(J.ClassDeclaration, String)}. These are assigned in a static initializer, which runs after the
+     * initializers of the fields that are added, so no field can be derived from them.
+     */
+    static Set<String> blankStaticFinalFields(J.ClassDeclaration classDecl) {
+        Set<String> blank = new HashSet<>();
+        staticFinalFields(classDecl).forEach((name, field) -> {
+            if (field.getInitializer() == null) {
+                blank.add(fieldKey(classDecl, name));
+            }
+        });
+        return blank;
+    }
+
+    /**
+     * @return the static final fields of the given type which are the target of a method call in the class, other
+     * than of the given methods which leave their configuration alone, by {@link #fieldKey(J.ClassDeclaration, String)}.
+     * Such fields are not reused for a fresh instance, or cached from, as that would also pick up their changed
+     * configuration.
+     */
+    static Set<String> reconfiguredFields(J.ClassDeclaration classDecl, String type, Set<String> unchangedBy) {
+        Set<String> reconfigured = new HashSet<>();
+        new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Set<String> fields) {
+                String field = staticFinalField(method.getSelect(), type);
+                if (field != null && !unchangedBy.contains(method.getSimpleName())) {
+                    fields.add(field);
+                }
+                return super.visitMethodInvocation(method, fields);
+            }
+        }.visit(classDecl, reconfigured);
+        return reconfigured;
+    }
+
+    /**
+     * @return the owner and name of the static final field of the given type which the expression refers to,
+     * or {@code null} if it does not refer to such a field.
+     */
+    static @Nullable String staticFinalField(@Nullable Expression expression, String type) {
+        JavaType.Variable fieldType = null;
+        if (expression instanceof J.Identifier) {
+            fieldType = ((J.Identifier) expression).getFieldType();
+        } else if (expression instanceof J.FieldAccess) {
+            fieldType = ((J.FieldAccess) expression).getName().getFieldType();
+        }
+        if (!isStaticFinal(fieldType) || !TypeUtils.isAssignableTo(type, fieldType.getType())) {
+            return null;
+        }
+        JavaType.FullyQualified owner = TypeUtils.asFullyQualified(fieldType.getOwner());
+        return (owner == null ? "" : owner.getFullyQualifiedName() + ".") + fieldType.getName();
+    }
+
+    /**
+     * @return the owner and name of a field declared in the class, as returned by {@link #staticFinalField(Expression, String)}.
+     */
+    static String fieldKey(J.ClassDeclaration classDecl, String name) {
+        return (classDecl.getType() == null ? "" : classDecl.getType().getFullyQualifiedName() + ".") + name;
+    }
+
+    /**
+     * @return where to add a field whose initializer refers to other static fields of the class,
+     * which is after the last of them, so these are initialized first.
+     */
+    static JavaCoordinates afterStaticFields(J.ClassDeclaration classDecl) {
+        Statement last = null;
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations &&
+                ((J.VariableDeclarations) statement).hasModifier(J.Modifier.Type.Static)) {
+                last = statement;
+            }
+        }
+        return last == null ?
+                classDecl.getBody().getCoordinates().firstStatement() :
+                last.getCoordinates().after();
+    }
+
+    /**
+     * @return the given name, or the name with a numeric suffix if a field with that name exists or has been taken.
+     */
+    static String uniqueName(J.ClassDeclaration classDecl, String name, Set<String> taken) {
+        Set<String> existing = new HashSet<>(taken);
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations) {
+                for (J.VariableDeclarations.NamedVariable variable : ((J.VariableDeclarations) statement).getVariables()) {
+                    existing.add(variable.getSimpleName());
+                }
+            }
+        }
+        String unique = name;
+        for (int i = 2; existing.contains(unique); i++) {
+            unique = name + i;
+        }
+        taken.add(unique);
+        return unique;
+    }
+
+    /**
+     * Derive a constant name such as {@code FOO_BAR} from a type or member name such as {@code FooBar}.
+     */
+    static String constantName(String name) {
+        StringBuilder constant = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isJavaIdentifierPart(c)) {
+                if (constant.length() > 0 && constant.charAt(constant.length() - 1) != '_') {
+                    constant.append('_');
+                }
+                continue;
+            }
+            if (Character.isUpperCase(c) && i > 0 && Character.isLowerCase(name.charAt(i - 1))) {
+                constant.append('_');
+            }
+            constant.append(Character.toUpperCase(c));
+        }
+        return constant.toString();
+    }
+
+    /**
+     * @return the type of the field with the given name, once it has been added to the class.
+     */
+    static JavaType.@Nullable Variable fieldType(J.ClassDeclaration classDecl, String name) {
+        J.VariableDeclarations.NamedVariable field = staticFinalFields(classDecl).get(name);
+        return field == null ? null : field.getVariableType();
+    }
+
+    /**
+     * @return an identifier referring to a field of the class, to replace the expression it was hoisted from.
+     */
+    static J.Identifier reference(Expression replaced, String name, JavaType.@Nullable Variable fieldType) {
+        return new J.Identifier(
+                Tree.randomId(),
+                replaced.getPrefix(),
+                Markers.EMPTY,
+                emptyList(),
+                name,
+                fieldType == null ? replaced.getType() : fieldType.getType(),
+                fieldType);
+    }
+}
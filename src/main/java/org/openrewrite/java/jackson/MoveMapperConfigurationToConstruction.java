@@ -0,0 +1,542 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.*;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MoveMapperConfigurationToConstruction extends Recipe {
+
+    private static final String OBJECT_MAPPER = "com.fasterxml.jackson.databind.ObjectMapper";
+    private static final String JSON_MAPPER = "com.fasterxml.jackson.databind.json.JsonMapper";
+    private static final String SERIALIZATION_FEATURE = "com.fasterxml.jackson.databind.SerializationFeature";
+    private static final String DESERIALIZATION_FEATURE = "com.fasterxml.jackson.databind.DeserializationFeature";
+
+    private static final Set<String> WRITE_METHODS = new HashSet<>(Arrays.asList("writeValue", "writeValueAsString", "writeValueAsBytes"));
+
+    /**
+     * Prefixes of the mapper methods which change its configuration, next to the ones in {@code BUILDER_METHODS}.
+     */
+    private static final List<String> MUTATOR_PREFIXES = Arrays.asList("set", "add", "register", "activate", "deactivate", "clear");
+
+    private static final String CONFIGURED_ELSEWHERE = "Not moved into construction, as the mapper is configured differently elsewhere";
+    private static final String NOT_CONSTANT = "Not moved into construction, as the arguments are not constant";
+    private static final String CONDITIONAL = "Not moved into construction, as the mapper is configured conditionally";
+    private static final String NOT_USED = "Not moved into construction, as the mapper is not used after it is configured in this method";
+    private static final String UNSUPPORTED = "Not moved into construction, as the mapper can not be built with this configuration";
+
+    @Override
+    public String getDisplayName() {
+        return "Move `ObjectMapper` configuration into its construction";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Reconfiguring a shared mapper after it is created flushes its serializer caches, and races with the threads " +
+               "that use it concurrently. Constant configuration of a final mapper field in a method is moved into the " +
+               "`JsonMapper.builder()` that creates it, when the method goes on to use the mapper. Configuration in " +
+               "methods such as `enablePrettyPrint()`, which callers may never call, is marked instead. A feature that is switched on and back off around writes or reads " +
+               "is replaced with `writer().with(feature)` or `readerFor(type).with(feature)` views for those calls. " +
+               "Any other reconfiguration of a mapper field is marked.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesType<>(OBJECT_MAPPER, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                Map<String, J.VariableDeclarations.NamedVariable> mappers = mapperFields(cd);
+                if (mappers.isEmpty()) {
+                    return cd;
+                }
+                Plan plan = new Plan(cd.getType(), mappers);
+                for (Statement statement : cd.getBody().getStatements()) {
+                    if (statement instanceof J.MethodDeclaration && ((J.MethodDeclaration) statement).getBody() != null) {
+                        plan.collect((J.MethodDeclaration) statement, getCursor());
+                    }
+                }
+                plan.decide(getCursor());
+                if (plan.isEmpty()) {
+                    return cd;
+                }
+
+                JavaVisitor<ExecutionContext> reconfigure = new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public J visitBlock(J.Block block, ExecutionContext ctx) {
+                        J.Block b = (J.Block) super.visitBlock(block, ctx);
+                        return b.withStatements(ListUtils.map(b.getStatements(), s -> plan.removals.contains(s.getId()) ? null : s));
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation mi = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                        View view = plan.views.get(mi.getId());
+                        if (view != null) {
+                            return view.apply(mi, getCursor(), ctx);
+                        }
+                        String reason = plan.flags.get(mi.getId());
+                        return reason == null ? mi : SearchResult.found(mi, reason);
+                    }
+                };
+                Cursor bodyCursor = new Cursor(updateCursor(cd), cd.getBody());
+                return cd.withBody(cd.getBody().withStatements(ListUtils.map(cd.getBody().getStatements(), statement -> {
+                    if (statement instanceof J.MethodDeclaration) {
+                        return (Statement) reconfigure.visitNonNull(statement, ctx, bodyCursor);
+                    }
+                    if (statement instanceof J.VariableDeclarations) {
+                        return buildWithConfiguration((J.VariableDeclarations) statement, plan, bodyCursor, ctx);
+                    }
+                    return statement;
+                })));
+            }
+
+            private J.VariableDeclarations buildWithConfiguration(J.VariableDeclarations field, Plan plan, Cursor bodyCursor, ExecutionContext ctx) {
+                Cursor fieldCursor = new Cursor(bodyCursor, field);
+                return field.withVariables(ListUtils.map(field.getVariables(), variable -> {
+                    Collection<J.MethodInvocation> calls = plan.builderCalls.get(variable.getSimpleName());
+                    Expression initializer = variable.getInitializer();
+                    if (calls == null || initializer == null || !plan.mappers.get(variable.getSimpleName()).getId().equals(variable.getId())) {
+                        return variable;
+                    }
+                    StringBuilder template = new StringBuilder();
+                    List<Object> arguments = new ArrayList<>();
+                    if (HoistObjectMapperConstruction.isNewObjectMapper(initializer)) {
+                        template.append("JsonMapper.builder()");
+                        maybeAddImport(JSON_MAPPER);
+                    } else {
+                        template.append("#{any(com.fasterxml.jackson.databind.json.JsonMapper.Builder)}");
+                        arguments.add(((J.MethodInvocation) initializer).getSelect());
+                    }
+                    for (J.MethodInvocation call : calls) {
+                        StringJoiner placeholders = new StringJoiner(", ", "." + HoistObjectMapperConstruction.BUILDER_METHODS.get(call.getSimpleName()) + "(", ")");
+                        for (Expression argument : call.getArguments()) {
+                            placeholders.add("#{any()}");
+                            arguments.add(argument);
+                        }
+                        template.append(placeholders);
+                    }
+                    template.append(".build()");
+                    Cursor initializerCursor = new Cursor(new Cursor(fieldCursor, variable), initializer);
+                    return variable.withInitializer(JavaTemplate.builder(template.toString())
+                            .imports(JSON_MAPPER)
+                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-annotations", "jackson-core", "jackson-databind"))
+                            .build()
+                            .apply(initializerCursor, initializer.getCoordinates().replace(), arguments.toArray()));
+                }));
+            }
+        });
+    }
+
+    /**
+     * @return the final mapper fields of the class that are initialized where they are declared.
+     */
+    private static Map<String, J.VariableDeclarations.NamedVariable> mapperFields(J.ClassDeclaration classDecl) {
+        Map<String, J.VariableDeclarations.NamedVariable> fields = new HashMap<>();
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations) {
+                J.VariableDeclarations vd = (J.VariableDeclarations) statement;
+                if (vd.hasModifier(J.Modifier.Type.Final) && TypeUtils.isOfClassType(vd.getType(), OBJECT_MAPPER)) {
+                    for (J.VariableDeclarations.NamedVariable variable : vd.getVariables()) {
+                        if (variable.getInitializer() != null) {
+                            fields.put(variable.getSimpleName(), variable);
+                        }
+                    }
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * @return whether the mapper is created with {@code new ObjectMapper()} or a {@code JsonMapper} builder,
+     * to which more configuration can be added.
+     */
+    private static boolean isBuildable(J.VariableDeclarations.NamedVariable mapper) {
+        Expression initializer = mapper.getInitializer();
+        if (HoistObjectMapperConstruction.isNewObjectMapper(initializer)) {
+            return true;
+        }
+        return initializer instanceof J.MethodInvocation &&
+               "build".equals(((J.MethodInvocation) initializer).getSimpleName()) &&
+               ((J.MethodInvocation) initializer).getSelect() != null &&
+               TypeUtils.isOfClassType(((J.MethodInvocation) initializer).getSelect().getType(), JSON_MAPPER + "$Builder");
+    }
+
+    private static boolean isConfiguration(String methodName) {
+        if (HoistObjectMapperConstruction.BUILDER_METHODS.containsKey(methodName)) {
+            return true;
+        }
+        for (String prefix : MUTATOR_PREFIXES) {
+            if (methodName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A write or read on a mapper that becomes a call on an {@code ObjectWriter} or {@code ObjectReader} view,
+     * with the feature that was switched on or off around it.
+     */
+    private static class View {
+        final Expression feature;
+        final boolean enabled;
+
+        View(Expression feature, boolean enabled) {
+            this.feature = feature;
+            this.enabled = enabled;
+        }
+
+        J.MethodInvocation apply(J.MethodInvocation use, Cursor cursor, ExecutionContext ctx) {
+            String with = "." + (enabled ? "with" : "without") + "(" + placeholder(feature) + ")";
+            List<Object> arguments = new ArrayList<>();
+            arguments.add(use.getSelect());
+            String template;
+            if (WRITE_METHODS.contains(use.getSimpleName())) {
+                arguments.add(feature.withId(Tree.randomId()));
+                StringJoiner placeholders = new StringJoiner(", ", "." + use.getSimpleName() + "(", ")");
+                for (Expression argument : use.getArguments()) {
+                    placeholders.add(placeholder(argument));
+                    arguments.add(argument);
+                }
+                template = "#{any(" + OBJECT_MAPPER + ")}.writer()" + with + placeholders;
+            } else if ("readTree".equals(use.getSimpleName())) {
+                arguments.add(feature.withId(Tree.randomId()));
+                arguments.add(use.getArguments().get(0));
+                template = "#{any(" + OBJECT_MAPPER + ")}.reader()" + with + ".readTree(" + placeholder(use.getArguments().get(0)) + ")";
+            } else {
+                arguments.add(use.getArguments().get(1));
+                arguments.add(feature.withId(Tree.randomId()));
+                arguments.add(use.getArguments().get(0));
+                template = "#{any(" + OBJECT_MAPPER + ")}.readerFor(" + placeholder(use.getArguments().get(1)) + ")" + with +
+                           ".readValue(" + placeholder(use.getArguments().get(0)) + ")";
+            }
+            return JavaTemplate.builder(template)
+                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-annotations", "jackson-core", "jackson-databind"))
+                    .build()
+                    .apply(cursor, use.getCoordinates().replace(), arguments.toArray());
+        }
+
+        /**
+         * Type the placeholder, as the writer and reader methods are overloaded.
+         */
+        private static String placeholder(Expression argument) {
+            // Anonymous classes such as `new TypeReference<T>() {}` are typed by the class they extend
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(
+                    argument instanceof J.NewClass && ((J.NewClass) argument).getBody() != null && ((J.NewClass) argument).getClazz() != null ?
+                            ((J.NewClass) argument).getClazz().getType() : argument.getType());
+            return type == null ? "#{any()}" : "#{any(" + type.getFullyQualifiedName() + ")}";
+        }
+    }
+
+    /**
+     * A feature switched on or off with {@code configure(feature, true)}, {@code enable(feature)} or {@code disable(feature)}.
+     */
+    private static class Toggle {
+        final J.MethodInvocation call;
+        final String mapper;
+        final Expression feature;
+        final boolean enabled;
+
+        Toggle(J.MethodInvocation call, String mapper, Expression feature, boolean enabled) {
+            this.call = call;
+            this.mapper = mapper;
+            this.feature = feature;
+            this.enabled = enabled;
+        }
+
+        boolean isSerialization() {
+            return TypeUtils.isOfClassType(feature.getType(), SERIALIZATION_FEATURE);
+        }
+
+        boolean isReversedBy(Toggle other, Cursor cursor) {
+            return mapper.equals(other.mapper) && enabled != other.enabled &&
+                   feature.printTrimmed(cursor).equals(other.feature.printTrimmed(cursor));
+        }
+    }
+
+    /**
+     * Where the mappers of a class are configured, and what to do with each of these calls.
+     */
+    private static class Plan {
+        final JavaType.@Nullable FullyQualified classType;
+        final Map<String, J.VariableDeclarations.NamedVariable> mappers;
+        final List<J.MethodInvocation> configurations = new ArrayList<>();
+        final Set<UUID> topLevel = new HashSet<>();
+        // Top level configuration calls which are followed by a use of the mapper in the same method
+        final Set<UUID> precedeUse = new HashSet<>();
+
+        final Set<UUID> removals = new HashSet<>();
+        final Map<UUID, View> views = new HashMap<>();
+        final Map<UUID, String> flags = new HashMap<>();
+        final Map<String, Collection<J.MethodInvocation>> builderCalls = new HashMap<>();
+
+        Plan(JavaType.@Nullable FullyQualified classType, Map<String, J.VariableDeclarations.NamedVariable> mappers) {
+            this.classType = classType;
+            this.mappers = mappers;
+        }
+
+        boolean isEmpty() {
+            return removals.isEmpty() && flags.isEmpty();
+        }
+
+        void collect(J.MethodDeclaration method, Cursor classCursor) {
+            Cursor methodCursor = new Cursor(classCursor, method);
+            new JavaIsoVisitor<Plan>() {
+                @Override
+                public J.Block visitBlock(J.Block block, Plan plan) {
+                    findToggles(block.getStatements(), getCursor());
+                    return super.visitBlock(block, plan);
+                }
+
+                @Override
+                public J.MethodInvocation visitMethodInvocation(J.MethodInvocation mi, Plan plan) {
+                    String mapper = mapper(mi.getSelect());
+                    // Constructors configure the instance fields before the instance is published
+                    if (mapper != null && isConfiguration(mi.getSimpleName()) && !removals.contains(mi.getId()) &&
+                        !(method.isConstructor() && !isStatic(mapper))) {
+                        configurations.add(mi);
+                        Cursor parent = getCursor().getParentTreeCursor();
+                        if (parent.getValue() instanceof J.Block && parent.getParentTreeCursor().getValue() == method) {
+                            topLevel.add(mi.getId());
+                            if (isUsedAfter(mi, mapper, ((J.Block) parent.getValue()).getStatements())) {
+                                precedeUse.add(mi.getId());
+                            }
+                        }
+                    }
+                    return super.visitMethodInvocation(mi, plan);
+                }
+
+                @Override
+                public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Plan plan) {
+                    // Local classes are handled on their own
+                    return classDecl;
+                }
+            }.visit(method.getBody(), this, methodCursor);
+        }
+
+        /**
+         * @return whether a statement after the configuration call uses the mapper, other than to configure it further.
+         */
+        private boolean isUsedAfter(J.MethodInvocation call, String mapper, List<Statement> statements) {
+            boolean after = false;
+            for (Statement statement : statements) {
+                if (after && !(statement instanceof J.MethodInvocation && isConfiguration(((J.MethodInvocation) statement).getSimpleName()) &&
+                               mapper.equals(mapper(((J.MethodInvocation) statement).getSelect())))) {
+                    AtomicInteger references = new AtomicInteger();
+                    new JavaIsoVisitor<AtomicInteger>() {
+                        @Override
+                        public J.Identifier visitIdentifier(J.Identifier identifier, AtomicInteger count) {
+                            if (isMapperReference(identifier) && mapper.equals(identifier.getSimpleName())) {
+                                count.incrementAndGet();
+                            }
+                            return identifier;
+                        }
+                    }.visit(statement, references);
+                    if (references.get() > 0) {
+                        return true;
+                    }
+                }
+                after |= statement == call;
+            }
+            return false;
+        }
+
+        /**
+         * Find features that are switched on or off, and back again after the writes or reads that need them.
+         */
+        private void findToggles(List<Statement> statements, Cursor cursor) {
+            for (int i = 0; i < statements.size(); i++) {
+                Toggle start = toggle(statements.get(i));
+                if (start == null) {
+                    continue;
+                }
+                Map<UUID, View> uses = new HashMap<>();
+                for (int j = i + 1; j < statements.size(); j++) {
+                    Toggle end = toggle(statements.get(j));
+                    if (end != null && end.mapper.equals(start.mapper)) {
+                        if (end.isReversedBy(start, cursor) && !uses.isEmpty()) {
+                            removals.add(start.call.getId());
+                            removals.add(end.call.getId());
+                            views.putAll(uses);
+                            i = j;
+                        }
+                        break;
+                    }
+                    if (!collectUses(statements.get(j), start, uses)) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return whether all references to the mapper in the statement are writes or reads that can use a view.
+         */
+        private boolean collectUses(Statement statement, Toggle toggle, Map<UUID, View> uses) {
+            AtomicInteger references = new AtomicInteger();
+            AtomicInteger convertible = new AtomicInteger();
+            new JavaIsoVisitor<Integer>() {
+                @Override
+                public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                    if (isMapperReference(identifier) && toggle.mapper.equals(identifier.getSimpleName())) {
+                        references.incrementAndGet();
+                    }
+                    return identifier;
+                }
+
+                @Override
+                public J.MethodInvocation visitMethodInvocation(J.MethodInvocation mi, Integer p) {
+                    if (toggle.mapper.equals(mapper(mi.getSelect())) && isConvertible(mi, toggle)) {
+                        uses.put(mi.getId(), new View(toggle.feature, toggle.enabled));
+                        convertible.incrementAndGet();
+                    }
+                    return super.visitMethodInvocation(mi, p);
+                }
+            }.visit(statement, 0);
+            return references.get() == convertible.get();
+        }
+
+        private static boolean isConvertible(J.MethodInvocation use, Toggle toggle) {
+            if (toggle.isSerialization()) {
+                return WRITE_METHODS.contains(use.getSimpleName());
+            }
+            return ("readValue".equals(use.getSimpleName()) && use.getArguments().size() == 2) ||
+                   ("readTree".equals(use.getSimpleName()) && use.getArguments().size() == 1);
+        }
+
+        private @Nullable Toggle toggle(Statement statement) {
+            if (!(statement instanceof J.MethodInvocation)) {
+                return null;
+            }
+            J.MethodInvocation mi = (J.MethodInvocation) statement;
+            String mapper = mapper(mi.getSelect());
+            if (mapper == null || mi.getArguments().isEmpty()) {
+                return null;
+            }
+            Expression feature = mi.getArguments().get(0);
+            if (!TypeUtils.isOfClassType(feature.getType(), SERIALIZATION_FEATURE) &&
+                !TypeUtils.isOfClassType(feature.getType(), DESERIALIZATION_FEATURE)) {
+                return null;
+            }
+            if ("configure".equals(mi.getSimpleName()) && mi.getArguments().size() == 2 &&
+                mi.getArguments().get(1) instanceof J.Literal &&
+                ((J.Literal) mi.getArguments().get(1)).getValue() instanceof Boolean) {
+                return new Toggle(mi, mapper, feature, (Boolean) ((J.Literal) mi.getArguments().get(1)).getValue());
+            }
+            if (("enable".equals(mi.getSimpleName()) || "disable".equals(mi.getSimpleName())) && mi.getArguments().size() == 1) {
+                return new Toggle(mi, mapper, feature, "enable".equals(mi.getSimpleName()));
+            }
+            return null;
+        }
+
+        /**
+         * Move the configuration into the construction of the mapper, if it is the same everywhere and always runs
+         * before the mapper is used in its method, or mark it.
+         */
+        void decide(Cursor cursor) {
+            Map<String, Map<String, Set<String>>> valuesByMapper = new HashMap<>();
+            Map<UUID, Map<String, String>> settingsByCall = new HashMap<>();
+            for (J.MethodInvocation call : configurations) {
+                String mapper = Objects.requireNonNull(mapper(call.getSelect()));
+                Map<String, String> settings = settings(call, cursor);
+                settingsByCall.put(call.getId(), settings);
+                settings.forEach((key, value) -> valuesByMapper.computeIfAbsent(mapper, k -> new HashMap<>())
+                        .computeIfAbsent(key, k -> new HashSet<>()).add(value));
+            }
+            Map<String, Map<String, J.MethodInvocation>> distinctCalls = new HashMap<>();
+            for (J.MethodInvocation call : configurations) {
+                String mapper = Objects.requireNonNull(mapper(call.getSelect()));
+                String reason = null;
+                if (!HoistObjectMapperConstruction.BUILDER_METHODS.containsKey(call.getSimpleName()) || !isBuildable(mappers.get(mapper))) {
+                    reason = UNSUPPORTED;
+                } else if (!call.getArguments().stream().allMatch(HoistedFields::isConstant)) {
+                    reason = NOT_CONSTANT;
+                } else if (settingsByCall.get(call.getId()).keySet().stream()
+                        .anyMatch(key -> valuesByMapper.get(mapper).get(key).size() > 1)) {
+                    reason = CONFIGURED_ELSEWHERE;
+                } else if (!topLevel.contains(call.getId())) {
+                    reason = CONDITIONAL;
+                } else if (!precedeUse.contains(call.getId())) {
+                    reason = NOT_USED;
+                }
+                if (reason == null) {
+                    removals.add(call.getId());
+                    distinctCalls.computeIfAbsent(mapper, k -> new LinkedHashMap<>()).putIfAbsent(call.printTrimmed(cursor), call);
+                } else {
+                    flags.put(call.getId(), reason);
+                }
+            }
+            distinctCalls.forEach((mapper, calls) -> builderCalls.put(mapper, calls.values()));
+        }
+
+        /**
+         * @return the settings a configuration call changes, such as the feature and whether it is enabled.
+         */
+        private static Map<String, String> settings(J.MethodInvocation call, Cursor cursor) {
+            Map<String, String> settings = new HashMap<>();
+            List<Expression> arguments = call.getArguments();
+            if ("configure".equals(call.getSimpleName()) && arguments.size() == 2) {
+                settings.put(arguments.get(0).printTrimmed(cursor), arguments.get(1).printTrimmed(cursor));
+            } else if ("enable".equals(call.getSimpleName()) || "disable".equals(call.getSimpleName())) {
+                for (Expression feature : arguments) {
+                    settings.put(feature.printTrimmed(cursor), String.valueOf("enable".equals(call.getSimpleName())));
+                }
+            } else {
+                StringJoiner printed = new StringJoiner(", ");
+                for (Expression argument : arguments) {
+                    printed.add(argument.printTrimmed(cursor));
+                }
+                settings.put(call.getSimpleName(), printed.toString());
+            }
+            return settings;
+        }
+
+        private boolean isStatic(String mapper) {
+            JavaType.Variable fieldType = mappers.get(mapper).getVariableType();
+            return fieldType != null && fieldType.hasFlags(Flag.Static);
+        }
+
+        /**
+         * @return the name of the mapper field of this class the expression refers to, if any.
+         */
+        private @Nullable String mapper(@Nullable Expression select) {
+            J.Identifier name = select instanceof J.Identifier ? (J.Identifier) select :
+                    select instanceof J.FieldAccess ? ((J.FieldAccess) select).getName() : null;
+            return name != null && isMapperReference(name) ? name.getSimpleName() : null;
+        }
+
+        private boolean isMapperReference(J.Identifier identifier) {
+            JavaType.Variable fieldType = identifier.getFieldType();
+            return mappers.containsKey(identifier.getSimpleName()) && fieldType != null &&
+                   TypeUtils.isOfType(fieldType.getOwner(), classType);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.VariableNameUtils;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singletonList;
+
+public class ReadJsonArraysWithMappingIterator extends Recipe {
+
+    private static final String TYPE_REFERENCE = "com.fasterxml.jackson.core.type.TypeReference";
+
+    // Only the sources that can be streamed, reading a String or byte[] incrementally saves little
+    private static final List<MethodMatcher> READ_VALUE = Arrays.asList(
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper readValue(java.io.File, " + TYPE_REFERENCE + ")", true),
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper readValue(java.io.InputStream, " + TYPE_REFERENCE + ")", true),
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper readValue(java.io.Reader, " + TYPE_REFERENCE + ")", true),
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper readValue(java.net.URL, " + TYPE_REFERENCE + ")", true));
+
+    @Override
+    public String getDisplayName() {
+        return "Read JSON arrays with a `MappingIterator`";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Reading a JSON array into a `List` with `readValue` only to iterate over it once keeps every element on the heap. " +
+               "Such a read followed by a single `for` loop is replaced with a `MappingIterator` from " +
+               "`readerFor(Element.class).readValues(source)` in a try-with-resources, which reads one element at a time. " +
+               "The elements are read with `hasNextValue` and `nextValue`, which throw the same `IOException` as `readValue` " +
+               "did, rather than `hasNext` and `next`, which wrap it in a `RuntimeJsonMappingException`. " +
+               "Note that elements before malformed input are now processed before the exception is thrown.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(Preconditions.or(
+                new UsesMethod<>(READ_VALUE.get(0)), new UsesMethod<>(READ_VALUE.get(1)),
+                new UsesMethod<>(READ_VALUE.get(2)), new UsesMethod<>(READ_VALUE.get(3))), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                J.Block b = super.visitBlock(block, ctx);
+                List<Statement> statements = b.getStatements();
+                List<Statement> rewritten = new ArrayList<>(statements.size());
+                for (int i = 0; i < statements.size(); i++) {
+                    J.Try streamed = i + 1 < statements.size() ? streamIfIteratedOnce(statements, i, ctx) : null;
+                    if (streamed == null) {
+                        rewritten.add(statements.get(i));
+                    } else {
+                        rewritten.add(streamed);
+                        i++;
+                    }
+                }
+                if (rewritten.size() == statements.size()) {
+                    return b;
+                }
+                maybeAddImport("com.fasterxml.jackson.databind.MappingIterator");
+                maybeRemoveImport(TYPE_REFERENCE);
+                maybeRemoveImport("java.util.List");
+                maybeRemoveImport("java.util.Collection");
+                return b.withStatements(rewritten);
+            }
+
+            private J.@Nullable Try streamIfIteratedOnce(List<Statement> statements, int index, ExecutionContext ctx) {
+                if (!(statements.get(index) instanceof J.VariableDeclarations) || !(statements.get(index + 1) instanceof J.ForEachLoop)) {
+                    return null;
+                }
+                J.VariableDeclarations vd = (J.VariableDeclarations) statements.get(index);
+                J.ForEachLoop loop = (J.ForEachLoop) statements.get(index + 1);
+                if (vd.getVariables().size() != 1 || !(vd.getVariables().get(0).getInitializer() instanceof J.MethodInvocation)) {
+                    return null;
+                }
+                J.VariableDeclarations.NamedVariable list = vd.getVariables().get(0);
+                J.MethodInvocation read = (J.MethodInvocation) list.getInitializer();
+                JavaType.FullyQualified elementType = elementType(read);
+                if (elementType == null || !(read.getSelect() instanceof J.Identifier || read.getSelect() instanceof J.FieldAccess) ||
+                    !(loop.getControl().getIterable() instanceof J.Identifier) ||
+                    !SingleUseVariables.isReferenceTo((J.Identifier) loop.getControl().getIterable(), list) ||
+                    isReferencedIn(list, loop.getBody()) ||
+                    isReferencedIn(list, statements.subList(index + 2, statements.size()))) {
+                    return null;
+                }
+
+                Cursor statementCursor = new Cursor(getCursor(), vd);
+                String iterator = VariableNameUtils.generateVariableName("iterator", statementCursor, VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER);
+                String element = elementType.getClassName();
+                J.Try streamed = JavaTemplate.builder(
+                                "try (MappingIterator<" + element + "> " + iterator + " = #{any(com.fasterxml.jackson.databind.ObjectMapper)}" +
+                                ".readerFor(" + element + ".class).readValues(#{any()})) {\n" +
+                                "    while (" + iterator + ".hasNextValue()) {\n" +
+                                "        " + loop.getControl().getVariable().printTrimmed(getCursor()) + " = " + iterator + ".nextValue();\n" +
+                                "    }\n" +
+                                "}")
+                        .contextSensitive()
+                        .imports("com.fasterxml.jackson.databind.MappingIterator")
+                        .build()
+                        .apply(statementCursor, vd.getCoordinates().replace(), read.getSelect(), read.getArguments().get(0));
+
+                // Move the loop body into the while loop, after the declaration of the loop variable
+                List<Statement> body = loop.getBody() instanceof J.Block ?
+                        ((J.Block) loop.getBody()).getStatements() : singletonList(loop.getBody());
+                streamed = streamed.withBody(streamed.getBody().withStatements(ListUtils.mapFirst(streamed.getBody().getStatements(), s -> {
+                    J.WhileLoop whileLoop = (J.WhileLoop) s;
+                    J.Block whileBody = (J.Block) whileLoop.getBody();
+                    return whileLoop.withBody(whileBody.withStatements(ListUtils.concatAll(whileBody.getStatements(), body)));
+                })));
+                return autoFormat(streamed.withPrefix(vd.getPrefix()), ctx, getCursor());
+            }
+        });
+    }
+
+    /**
+     * @return the element type of a {@code readValue(source, new TypeReference<List<Element>>() {})} call, if the elements
+     * are of a class that is not generic itself, so that it can be passed as {@code Element.class}.
+     */
+    private static JavaType.@Nullable FullyQualified elementType(J.MethodInvocation read) {
+        if (!matchesAny(read)) {
+            return null;
+        }
+        Expression typeReference = read.getArguments().get(1);
+        JavaType type = typeReference instanceof J.NewClass && ((J.NewClass) typeReference).getClazz() != null ?
+                ((J.NewClass) typeReference).getClazz().getType() : typeReference.getType();
+        JavaType.Parameterized reference = TypeUtils.asParameterized(type);
+        if (reference == null || !TypeUtils.isOfClassType(reference, TYPE_REFERENCE) || reference.getTypeParameters().size() != 1) {
+            return null;
+        }
+        JavaType.Parameterized collection = TypeUtils.asParameterized(reference.getTypeParameters().get(0));
+        if (collection == null || collection.getTypeParameters().size() != 1 ||
+            !(TypeUtils.isOfClassType(collection, "java.util.List") || TypeUtils.isOfClassType(collection, "java.util.Collection"))) {
+            return null;
+        }
+        JavaType element = collection.getTypeParameters().get(0);
+        return element instanceof JavaType.Class ? (JavaType.FullyQualified) element : null;
+    }
+
+    private static boolean matchesAny(J.MethodInvocation method) {
+        for (MethodMatcher matcher : READ_VALUE) {
+            if (matcher.matches(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isReferencedIn(J.VariableDeclarations.NamedVariable variable, J tree) {
+        return isReferencedIn(variable, singletonList(tree));
+    }
+
+    private static boolean isReferencedIn(J.VariableDeclarations.NamedVariable variable, List<? extends J> trees) {
+        AtomicInteger references = new AtomicInteger();
+        JavaIsoVisitor<AtomicInteger> countReferences = new JavaIsoVisitor<AtomicInteger>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicInteger count) {
+                if (SingleUseVariables.isReferenceTo(identifier, variable)) {
+                    count.incrementAndGet();
+                }
+                return identifier;
+            }
+        };
+        for (J tree : trees) {
+            countReferences.visit(tree, references);
+        }
+        return references.get() > 0;
+    }
+}
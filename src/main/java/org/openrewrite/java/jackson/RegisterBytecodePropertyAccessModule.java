@@ -0,0 +1,218 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.dependencies.AddDependency;
+import org.openrewrite.java.marker.JavaVersion;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class RegisterBytecodePropertyAccessModule extends Recipe {
+
+    private static final String OBJECT_MAPPER = "com.fasterxml.jackson.databind.ObjectMapper";
+    private static final String BLACKBIRD = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+    private static final String AFTERBURNER = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+    @Option(displayName = "Module",
+            description = "The module to register. By default Blackbird is used for Java 11 and up, and Afterburner for older Java versions. " +
+                          "Sources with a Java version that does not support the chosen module are skipped.",
+            valid = {"Blackbird", "Afterburner"},
+            example = "Blackbird",
+            required = false)
+    @Nullable
+    String module;
+
+    @Option(displayName = "Version",
+            description = "The version of the module to add, which should match the version of `jackson-databind`.",
+            example = "2.x",
+            required = false)
+    @Nullable
+    String version;
+
+    @Override
+    public String getDisplayName() {
+        return "Register the Blackbird or Afterburner module on shared mappers";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Register `jackson-module-blackbird`, or `jackson-module-afterburner` before Java 11, on every static final `ObjectMapper`, " +
+               "so that properties are accessed through generated code rather than reflection, and add the module dependency.";
+    }
+
+    @Override
+    public List<Recipe> getRecipeList() {
+        // Only added to projects in which the module has been registered, and so is in use
+        List<Recipe> recipes = new ArrayList<>();
+        String newVersion = version == null ? "2.x" : version;
+        if (!"Afterburner".equals(module)) {
+            recipes.add(new AddDependency(
+                    "com.fasterxml.jackson.module",
+                    "jackson-module-blackbird",
+                    newVersion,
+                    null,
+                    "com.fasterxml.jackson.module.blackbird.*",
+                    null, null, null, null, null, null, null, null, true));
+        }
+        if (!"Blackbird".equals(module)) {
+            recipes.add(new AddDependency(
+                    "com.fasterxml.jackson.module",
+                    "jackson-module-afterburner",
+                    newVersion,
+                    null,
+                    "com.fasterxml.jackson.module.afterburner.*",
+                    null, null, null, null, null, null, null, null, true));
+        }
+        return recipes;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(new UsesType<>(OBJECT_MAPPER, true), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                String moduleType = moduleFor(cu.getMarkers().findFirst(JavaVersion.class).orElse(null));
+                if (moduleType == null) {
+                    return cu;
+                }
+                getCursor().putMessage("MODULE", moduleType);
+                return super.visitCompilationUnit(cu, ctx);
+            }
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                getCursor().putMessage("REGISTERED", hasModuleRegistration(classDecl));
+                return super.visitClassDeclaration(classDecl, ctx);
+            }
+
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, ExecutionContext ctx) {
+                J.VariableDeclarations.NamedVariable v = super.visitVariable(variable, ctx);
+                Expression initializer = v.getInitializer();
+                if (initializer == null || !isSharedMapperField(getCursor())) {
+                    return v;
+                }
+
+                String moduleType = getCursor().getNearestMessage("MODULE");
+                String simpleName = moduleType.substring(moduleType.lastIndexOf('.') + 1);
+                JavaParser.Builder<?, ?> parser = JavaParser.fromJavaVersion()
+                        .classpathFromResources(ctx, "jackson-annotations", "jackson-core", "jackson-databind")
+                        .dependsOn(stub(moduleType));
+                Cursor initializerCursor = new Cursor(getCursor(), initializer);
+                if (isNewObjectMapper(initializer)) {
+                    maybeAddImport(moduleType);
+                    return v.withInitializer(JavaTemplate.builder("#{any(" + OBJECT_MAPPER + ")}.registerModule(new " + simpleName + "())")
+                            .imports(moduleType)
+                            .javaParser(parser)
+                            .build()
+                            .apply(initializerCursor, initializer.getCoordinates().replace(), initializer));
+                }
+                if (initializer instanceof J.MethodInvocation && "build".equals(((J.MethodInvocation) initializer).getSimpleName()) &&
+                    ((J.MethodInvocation) initializer).getSelect() != null &&
+                    TypeUtils.isAssignableTo("com.fasterxml.jackson.databind.cfg.MapperBuilder", ((J.MethodInvocation) initializer).getSelect().getType())) {
+                    maybeAddImport(moduleType);
+                    return v.withInitializer(JavaTemplate.builder("#{any(com.fasterxml.jackson.databind.json.JsonMapper.Builder)}.addModule(new " + simpleName + "()).build()")
+                            .imports(moduleType)
+                            .javaParser(parser)
+                            .build()
+                            .apply(initializerCursor, initializer.getCoordinates().replace(), ((J.MethodInvocation) initializer).getSelect()));
+                }
+                return v;
+            }
+        });
+    }
+
+    /**
+     * @return the module to register for sources with the given Java version,
+     * or {@code null} if the chosen module is not supported, or the version is not known.
+     */
+    private @Nullable String moduleFor(@Nullable JavaVersion javaVersion) {
+        if (javaVersion == null) {
+            return null;
+        }
+        boolean blackbirdSupported = javaVersion.getMajorVersion() >= 11;
+        if ("Blackbird".equals(module)) {
+            return blackbirdSupported ? BLACKBIRD : null;
+        }
+        if ("Afterburner".equals(module)) {
+            return AFTERBURNER;
+        }
+        return blackbirdSupported ? BLACKBIRD : AFTERBURNER;
+    }
+
+    private static boolean isSharedMapperField(Cursor variableCursor) {
+        Cursor declarations = variableCursor.getParentTreeCursor();
+        J.VariableDeclarations vd = declarations.getValue();
+        Cursor classCursor = declarations.getParentTreeCursor().getParentTreeCursor();
+        return classCursor.getValue() instanceof J.ClassDeclaration &&
+               !Boolean.TRUE.equals(classCursor.getMessage("REGISTERED")) &&
+               vd.hasModifier(J.Modifier.Type.Static) && vd.hasModifier(J.Modifier.Type.Final) &&
+               TypeUtils.isOfClassType(vd.getType(), OBJECT_MAPPER);
+    }
+
+    private static boolean isNewObjectMapper(Expression expression) {
+        return expression instanceof J.NewClass &&
+               ((J.NewClass) expression).getBody() == null &&
+               TypeUtils.isOfClassType(expression.getType(), OBJECT_MAPPER);
+    }
+
+    /**
+     * Mappers in classes which already register either module, or look up modules on the classpath, are left alone.
+     */
+    private static boolean hasModuleRegistration(J.ClassDeclaration classDecl) {
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, AtomicBoolean found) {
+                if (TypeUtils.isOfClassType(newClass.getType(), BLACKBIRD) ||
+                    TypeUtils.isOfClassType(newClass.getType(), AFTERBURNER)) {
+                    found.set(true);
+                }
+                return super.visitNewClass(newClass, found);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean found) {
+                if ("findAndRegisterModules".equals(method.getSimpleName())) {
+                    found.set(true);
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+        }.reduce(classDecl, new AtomicBoolean()).get();
+    }
+
+    /**
+     * The module jars are not needed on the classpath of the templates, as only the module type is referenced.
+     */
+    private static String stub(String moduleType) {
+        int lastDot = moduleType.lastIndexOf('.');
+        return "package " + moduleType.substring(0, lastDot) + ";\n" +
+               "public class " + moduleType.substring(lastDot + 1) + " extends com.fasterxml.jackson.databind.module.SimpleModule {\n" +
+               "}";
+    }
+}
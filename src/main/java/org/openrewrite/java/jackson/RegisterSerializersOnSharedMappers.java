@@ -0,0 +1,394 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.*;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.*;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class RegisterSerializersOnSharedMappers extends ScanningRecipe<RegisterSerializersOnSharedMappers.Accumulator> {
+
+    private static final String JSON_SERIALIZE = "com.fasterxml.jackson.databind.annotation.JsonSerialize";
+    private static final String OBJECT_MAPPER = "com.fasterxml.jackson.databind.ObjectMapper";
+    private static final String SIMPLE_MODULE = "com.fasterxml.jackson.databind.module.SimpleModule";
+    private static final AnnotationMatcher JSON_SERIALIZE_MATCHER = new AnnotationMatcher("@" + JSON_SERIALIZE);
+
+    private static final String VALUE = "value";
+    private static final String KEY = "key";
+
+    @Option(displayName = "Register on the shared mappers",
+            description = "Register the serializers that are always used for the same type once, in a `SimpleModule` on the " +
+                          "static final mappers, and remove the `using`, `contentUsing` and `keyUsing` arguments that refer to them. " +
+                          "Only use this when these mappers serialize all classes that use the serializers, and when no classes " +
+                          "outside of the repository have properties of the serialized types.",
+            required = false)
+    @Nullable
+    Boolean registerOnMappers;
+
+    @Override
+    public String getDisplayName() {
+        return "Register custom serializers once on the shared mappers";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Jackson creates and contextualizes the serializer of each `@JsonSerialize(using = ...)` property separately. " +
+               "The `using`, `contentUsing` and `keyUsing` serializers are indexed across the repository, along with every property " +
+               "of the types these serialize. Serializers that are stateless, and are used for every property of the type they " +
+               "serialize, are marked as candidates to be registered once with a `SimpleModule`. " +
+               "Optionally register these on the shared mappers and remove the per property arguments.";
+    }
+
+    public static class Accumulator {
+        final Map<String, SerializerClass> serializers = new HashMap<>();
+        // Per type that is serialized as a value or as a map key, the serializers of its properties, with "" for unannotated ones
+        final Map<String, Set<String>> serializersBySlot = new HashMap<>();
+        int mappers;
+
+        /**
+         * @return the serializer to register for each type, serialized as a value or as a map key.
+         */
+        Map<String, String> registrations() {
+            Map<String, String> registrations = new TreeMap<>();
+            serializersBySlot.forEach((slot, used) -> {
+                if (used.size() != 1) {
+                    return;
+                }
+                SerializerClass serializer = serializers.get(used.iterator().next());
+                if (serializer != null && serializer.stateless && slot.endsWith(":" + serializer.handledType)) {
+                    registrations.put(slot, serializer.name);
+                }
+            });
+            return registrations;
+        }
+    }
+
+    /**
+     * A serializer class declared in the repository.
+     */
+    static class SerializerClass {
+        final String name;
+        final @Nullable String handledType;
+        final boolean stateless;
+
+        SerializerClass(String name, @Nullable String handledType, boolean stateless) {
+            this.name = name;
+            this.handledType = handledType;
+            this.stateless = stateless;
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                JavaType.FullyQualified type = classDecl.getType();
+                if (type != null && TypeUtils.isAssignableTo(CustomSerializers.JSON_SERIALIZER, type)) {
+                    JavaType.FullyQualified handled = CustomSerializers.handledType(type, CustomSerializers.SERIALIZER_BASE_CLASSES);
+                    acc.serializers.put(type.getFullyQualifiedName(), new SerializerClass(type.getFullyQualifiedName(),
+                            handled == null ? null : handled.getFullyQualifiedName(), isStateless(classDecl, getCursor())));
+                }
+                return super.visitClassDeclaration(classDecl, ctx);
+            }
+
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                if (isProperty(multiVariable, getCursor())) {
+                    index(multiVariable.getLeadingAnnotations(), multiVariable.getType(), acc);
+                }
+                return super.visitVariableDeclarations(multiVariable, ctx);
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                if (isGetter(method)) {
+                    index(method.getLeadingAnnotations(), method.getReturnTypeExpression().getType(), acc);
+                }
+                return super.visitMethodDeclaration(method, ctx);
+            }
+
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, ExecutionContext ctx) {
+                if (ConsolidateJsonIncludeAnnotations.isSharedMapper(getCursor())) {
+                    acc.mappers++;
+                }
+                return super.visitVariable(variable, ctx);
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        Map<String, String> registrations = acc.registrations();
+        if (registrations.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+        boolean register = Boolean.TRUE.equals(registerOnMappers) && acc.mappers > 0;
+        return Preconditions.check(new UsesType<>(register ? "com.fasterxml.jackson..*" : JSON_SERIALIZE, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
+                if (!isProperty(vd, getCursor())) {
+                    return vd;
+                }
+                List<J.Annotation> annotations = replaceRegistered(vd.getLeadingAnnotations(), vd.getType());
+                if (annotations == null) {
+                    return (J.VariableDeclarations) new RemoveAnnotationVisitor(JSON_SERIALIZE_MATCHER)
+                            .visitNonNull(vd, ctx, getCursor().getParentOrThrow());
+                }
+                return vd.withLeadingAnnotations(annotations);
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                J.MethodDeclaration md = super.visitMethodDeclaration(method, ctx);
+                if (!isGetter(md)) {
+                    return md;
+                }
+                List<J.Annotation> annotations = replaceRegistered(md.getLeadingAnnotations(), md.getReturnTypeExpression().getType());
+                if (annotations == null) {
+                    return (J.MethodDeclaration) new RemoveAnnotationVisitor(JSON_SERIALIZE_MATCHER)
+                            .visitNonNull(md, ctx, getCursor().getParentOrThrow());
+                }
+                return md.withLeadingAnnotations(annotations);
+            }
+
+            /**
+             * @return the annotations with the serializers that are registered on the mappers removed, or marked,
+             * or {@code null} if the {@code @JsonSerialize} annotation is left without arguments.
+             */
+            private @Nullable List<J.Annotation> replaceRegistered(List<J.Annotation> annotations, @Nullable JavaType type) {
+                List<J.Annotation> replaced = ListUtils.map(annotations, annotation -> {
+                    if (!JSON_SERIALIZE_MATCHER.matches(annotation) || annotation.getArguments() == null) {
+                        return annotation;
+                    }
+                    List<String> registered = new ArrayList<>();
+                    J.Annotation a = annotation.withArguments(ListUtils.map(annotation.getArguments(), argument -> {
+                        String serializer = serializerOf(argument);
+                        String attribute = attributeOf(argument);
+                        if (serializer == null || attribute == null) {
+                            return argument;
+                        }
+                        List<String> slots = slots(attribute, type);
+                        if (slots.isEmpty() || !slots.stream().allMatch(slot -> serializer.equals(registrations.get(slot)))) {
+                            return argument;
+                        }
+                        registered.add(simpleName(serializer));
+                        return register ? null : argument;
+                    }));
+                    if (registered.isEmpty()) {
+                        return annotation;
+                    }
+                    if (!register) {
+                        return SearchResult.found(annotation, "`" + String.join("`, `", registered) +
+                                                              "` can be registered once on the shared mappers");
+                    }
+                    if (a.getArguments() == null || a.getArguments().isEmpty()) {
+                        return null;
+                    }
+                    return a.withArguments(ListUtils.mapFirst(a.getArguments(), first -> first.withPrefix(Space.EMPTY)));
+                });
+                return replaced.size() < annotations.size() ? null : replaced;
+            }
+
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, ExecutionContext ctx) {
+                J.VariableDeclarations.NamedVariable v = super.visitVariable(variable, ctx);
+                if (!register || !ConsolidateJsonIncludeAnnotations.isSharedMapper(getCursor()) || v.getInitializer() == null) {
+                    return v;
+                }
+                StringBuilder module = new StringBuilder("new SimpleModule()");
+                List<String> imports = new ArrayList<>();
+                imports.add(SIMPLE_MODULE);
+                registrations.forEach((slot, serializer) -> {
+                    String type = slot.substring(slot.indexOf(':') + 1);
+                    module.append(slot.startsWith(KEY) ? ".addKeySerializer(" : ".addSerializer(")
+                            .append(simpleName(type)).append(".class, new ").append(simpleName(serializer)).append("())");
+                    imports.add(importName(type));
+                    imports.add(importName(serializer));
+                });
+                for (String anImport : imports) {
+                    maybeAddImport(anImport, null, false);
+                }
+                Expression initializer = v.getInitializer();
+                boolean built = initializer instanceof J.MethodInvocation;
+                return v.withInitializer(JavaTemplate.builder(built ?
+                                "#{any(com.fasterxml.jackson.databind.json.JsonMapper.Builder)}.addModule(" + module + ").build()" :
+                                "#{any(" + OBJECT_MAPPER + ")}.registerModule(" + module + ")")
+                        .contextSensitive()
+                        .imports(imports.toArray(new String[0]))
+                        .build()
+                        .apply(new Cursor(getCursor(), initializer), initializer.getCoordinates().replace(),
+                                built ? ((J.MethodInvocation) initializer).getSelect() : initializer));
+            }
+        });
+    }
+
+    private static void index(List<J.Annotation> annotations, @Nullable JavaType type, Accumulator acc) {
+        Map<String, String> serializerBySlot = new HashMap<>();
+        for (J.Annotation annotation : annotations) {
+            if (JSON_SERIALIZE_MATCHER.matches(annotation) && annotation.getArguments() != null) {
+                for (Expression argument : annotation.getArguments()) {
+                    String serializer = serializerOf(argument);
+                    String attribute = attributeOf(argument);
+                    if (serializer != null && attribute != null) {
+                        for (String slot : slots(attribute, type)) {
+                            serializerBySlot.put(slot, serializer);
+                        }
+                    }
+                }
+            }
+        }
+        // The properties without a serializer for one of their slots would pick up a registered serializer too
+        for (String attribute : Arrays.asList("using", "contentUsing", "keyUsing")) {
+            for (String slot : slots(attribute, type)) {
+                acc.serializersBySlot.computeIfAbsent(slot, k -> new HashSet<>()).add(serializerBySlot.getOrDefault(slot, ""));
+            }
+        }
+    }
+
+    /**
+     * @return the slots an annotation attribute applies to for a property of the given type: the value type itself
+     * for {@code using}, the element type of collections and arrays or the value type of maps for {@code contentUsing},
+     * and the key type of maps for {@code keyUsing}.
+     */
+    private static List<String> slots(String attribute, @Nullable JavaType type) {
+        if (type instanceof JavaType.Primitive || type == null) {
+            return Collections.emptyList();
+        }
+        if ("using".equals(attribute)) {
+            return slot(VALUE, type);
+        }
+        if (type instanceof JavaType.Array) {
+            return "contentUsing".equals(attribute) ? slot(VALUE, ((JavaType.Array) type).getElemType()) : Collections.emptyList();
+        }
+        JavaType.Parameterized parameterized = TypeUtils.asParameterized(type);
+        if (parameterized == null) {
+            return Collections.emptyList();
+        }
+        List<JavaType> parameters = parameterized.getTypeParameters();
+        if (TypeUtils.isAssignableTo("java.util.Map", parameterized) && parameters.size() == 2) {
+            return "keyUsing".equals(attribute) ? slot(KEY, parameters.get(0)) :
+                    "contentUsing".equals(attribute) ? slot(VALUE, parameters.get(1)) : Collections.emptyList();
+        }
+        if (TypeUtils.isAssignableTo("java.util.Collection", parameterized) && parameters.size() == 1 && "contentUsing".equals(attribute)) {
+            return slot(VALUE, parameters.get(0));
+        }
+        return Collections.emptyList();
+    }
+
+    private static List<String> slot(String role, JavaType type) {
+        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+        return fq == null || type instanceof JavaType.GenericTypeVariable ?
+                Collections.emptyList() : Collections.singletonList(role + ":" + fq.getFullyQualifiedName());
+    }
+
+    private static @Nullable String attributeOf(Expression argument) {
+        if (argument instanceof J.Assignment && ((J.Assignment) argument).getVariable() instanceof J.Identifier) {
+            String name = ((J.Identifier) ((J.Assignment) argument).getVariable()).getSimpleName();
+            return "using".equals(name) || "contentUsing".equals(name) || "keyUsing".equals(name) ? name : null;
+        }
+        return null;
+    }
+
+    /**
+     * @return the serializer class of a {@code using = MoneySerializer.class} argument.
+     */
+    private static @Nullable String serializerOf(Expression argument) {
+        if (!(argument instanceof J.Assignment) || !(((J.Assignment) argument).getAssignment() instanceof J.FieldAccess)) {
+            return null;
+        }
+        J.FieldAccess value = (J.FieldAccess) ((J.Assignment) argument).getAssignment();
+        JavaType.FullyQualified type = "class".equals(value.getSimpleName()) ? TypeUtils.asFullyQualified(value.getTarget().getType()) : null;
+        return type == null ? null : type.getFullyQualifiedName();
+    }
+
+    /**
+     * @return whether a single instance of the serializer can be shared: it has no instance fields, can be created with
+     * a no-arg constructor, and is not contextualized per property.
+     */
+    private static boolean isStateless(J.ClassDeclaration classDecl, Cursor classCursor) {
+        if (classDecl.getKind() != J.ClassDeclaration.Kind.Type.Class || classDecl.hasModifier(J.Modifier.Type.Abstract) ||
+            classDecl.getTypeParameters() != null && !classDecl.getTypeParameters().isEmpty() ||
+            !(classCursor.getParentTreeCursor().getValue() instanceof JavaSourceFile || classDecl.hasModifier(J.Modifier.Type.Static)) ||
+            TypeUtils.isAssignableTo("com.fasterxml.jackson.databind.ser.ContextualSerializer", classDecl.getType()) ||
+            TypeUtils.isAssignableTo("com.fasterxml.jackson.databind.ser.ResolvableSerializer", classDecl.getType())) {
+            return false;
+        }
+        // Without any constructor the class has an implicit no-arg constructor
+        boolean hasConstructor = false;
+        boolean noArgConstructor = false;
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations && !((J.VariableDeclarations) statement).hasModifier(J.Modifier.Type.Static)) {
+                return false;
+            }
+            if (statement instanceof J.MethodDeclaration && ((J.MethodDeclaration) statement).isConstructor()) {
+                J.MethodDeclaration constructor = (J.MethodDeclaration) statement;
+                hasConstructor = true;
+                if ((constructor.getParameters().isEmpty() || constructor.getParameters().get(0) instanceof J.Empty) &&
+                    !constructor.hasModifier(J.Modifier.Type.Private)) {
+                    noArgConstructor = true;
+                }
+            }
+        }
+        return !hasConstructor || noArgConstructor;
+    }
+
+    /**
+     * @return whether the variable declarations are an instance field, which Jackson may serialize as a property.
+     */
+    private static boolean isProperty(J.VariableDeclarations vd, Cursor cursor) {
+        return !vd.hasModifier(J.Modifier.Type.Static) && !vd.hasModifier(J.Modifier.Type.Transient) &&
+               cursor.getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration;
+    }
+
+    private static boolean isGetter(J.MethodDeclaration method) {
+        String name = method.getSimpleName();
+        return (name.startsWith("get") || name.startsWith("is")) && !method.isConstructor() &&
+               !method.hasModifier(J.Modifier.Type.Static) && method.getReturnTypeExpression() != null &&
+               method.getReturnTypeExpression().getType() != JavaType.Primitive.Void &&
+               (method.getParameters().isEmpty() || method.getParameters().get(0) instanceof J.Empty);
+    }
+
+    private static String simpleName(String fullyQualifiedName) {
+        String className = fullyQualifiedName.substring(fullyQualifiedName.lastIndexOf('.') + 1);
+        return className.replace('$', '.');
+    }
+
+    /**
+     * @return the type to import for a reference by its simple name, which is the outermost type for nested types.
+     */
+    private static String importName(String fullyQualifiedName) {
+        int nested = fullyQualifiedName.indexOf('$');
+        return nested < 0 ? fullyQualifiedName : fullyQualifiedName.substring(0, nested);
+    }
+}
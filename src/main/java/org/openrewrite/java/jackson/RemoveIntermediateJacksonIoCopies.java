@@ -0,0 +1,185 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class RemoveIntermediateJacksonIoCopies extends Recipe {
+
+    private static final MethodMatcher GET_BYTES = new MethodMatcher("java.lang.String getBytes(java.nio.charset.Charset)");
+
+    private static final List<MethodMatcher> WRITE_VALUE_AS_STRING = Arrays.asList(
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper writeValueAsString(java.lang.Object)", true),
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectWriter writeValueAsString(java.lang.Object)", true));
+
+    private static final List<MethodMatcher> READ = Arrays.asList(
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper readValue(..)", true),
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper readTree(..)", true),
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectReader readValue(..)", true),
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectReader readValues(..)", true),
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectReader readTree(..)", true));
+
+    /**
+     * Unlike the other read methods, {@code ObjectReader.readTree} has no {@code File} overload.
+     */
+    private static final MethodMatcher READER_READ_TREE = new MethodMatcher("com.fasterxml.jackson.databind.ObjectReader readTree(..)", true);
+
+    private static final List<MethodMatcher> WRITE = Arrays.asList(
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper writeValue(java.io.Writer, java.lang.Object)", true),
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectWriter writeValue(java.io.Writer, java.lang.Object)", true));
+
+    @Override
+    public String getDisplayName() {
+        return "Remove intermediate copies in Jackson I/O calls";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Let Jackson read and write bytes directly, rather than going through an intermediate `String`, " +
+               "`Reader` or `Writer`, so it can use its byte level UTF-8 parser and generator. " +
+               "For example `writeValueAsString(x).getBytes(UTF_8)` becomes `writeValueAsBytes(x)`, " +
+               "`readValue(new String(bytes, UTF_8), T)` becomes `readValue(bytes, T)`, " +
+               "`readValue(new InputStreamReader(in, UTF_8), T)` becomes `readValue(in, T)` and " +
+               "`writeValue(new FileWriter(file, UTF_8), x)` becomes `writeValue(file, x)`. " +
+               "Jackson detects the encoding of byte input itself, and always writes bytes as UTF-8, " +
+               "so only copies that explicitly use UTF-8 are removed. Copies that use the platform default " +
+               "encoding are left alone, as it may not be UTF-8.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        TreeVisitor<?, ExecutionContext> precondition = Preconditions.or(
+                new UsesMethod<>("com.fasterxml.jackson.databind.ObjectMapper *(..)", true),
+                new UsesMethod<>("com.fasterxml.jackson.databind.ObjectReader *(..)", true),
+                new UsesMethod<>("com.fasterxml.jackson.databind.ObjectWriter *(..)", true));
+        return Preconditions.check(precondition, new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+
+                if (GET_BYTES.matches(mi) && isUtf8(mi.getArguments().get(0)) && matchesAny(WRITE_VALUE_AS_STRING, mi.getSelect())) {
+                    J.MethodInvocation write = (J.MethodInvocation) mi.getSelect();
+                    JavaType.Method type = write.getMethodType();
+                    if (type != null) {
+                        type = type.withName("writeValueAsBytes").withReturnType(mi.getType());
+                    }
+                    maybeRemoveImport("java.nio.charset.StandardCharsets");
+                    return write
+                            .withPrefix(mi.getPrefix())
+                            .withName(write.getName().withSimpleName("writeValueAsBytes").withType(type))
+                            .withMethodType(type);
+                }
+
+                if (mi.getArguments().isEmpty()) {
+                    return mi;
+                }
+                Expression source = mi.getArguments().get(0);
+                J.NewClass copy = null;
+                if (matchesAny(READ, mi)) {
+                    copy = copyOf(source, "java.lang.String", "byte[]");
+                    if (copy == null) {
+                        copy = copyOf(source, "java.io.InputStreamReader", "java.io.InputStream");
+                    }
+                    if (copy == null && !READER_READ_TREE.matches(mi)) {
+                        copy = copyOf(source, "java.io.FileReader", "java.io.File");
+                    }
+                } else if (matchesAny(WRITE, mi)) {
+                    copy = copyOf(source, "java.io.OutputStreamWriter", "java.io.OutputStream");
+                    if (copy == null) {
+                        copy = copyOf(source, "java.io.FileWriter", "java.io.File");
+                    }
+                }
+                if (copy == null) {
+                    return mi;
+                }
+
+                maybeRemoveImport(TypeUtils.asFullyQualified(copy.getType()).getFullyQualifiedName());
+                maybeRemoveImport("java.nio.charset.StandardCharsets");
+                Expression unwrapped = copy.getArguments().get(0).withPrefix(source.getPrefix());
+                mi = mi.withArguments(ListUtils.mapFirst(mi.getArguments(), a -> unwrapped));
+                JavaType.Method type = mi.getMethodType();
+                JavaType.Method constructorType = copy.getConstructorType();
+                if (type != null && constructorType != null) {
+                    JavaType unwrappedType = constructorType.getParameterTypes().get(0);
+                    type = type.withParameterTypes(ListUtils.mapFirst(type.getParameterTypes(), p -> unwrappedType));
+                    mi = mi.withName(mi.getName().withType(type)).withMethodType(type);
+                }
+                return mi;
+            }
+        });
+    }
+
+    private static boolean matchesAny(List<MethodMatcher> matchers, @Nullable Expression expression) {
+        for (MethodMatcher matcher : matchers) {
+            if (matcher.matches(expression)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the constructor call, if the expression wraps its first argument of the given type in a new
+     * instance of the given type with an explicit UTF-8 charset.
+     */
+    private static J.@Nullable NewClass copyOf(Expression expression, String copyType, String sourceType) {
+        if (!(expression instanceof J.NewClass)) {
+            return null;
+        }
+        J.NewClass newClass = (J.NewClass) expression;
+        JavaType.Method constructorType = newClass.getConstructorType();
+        if (newClass.getBody() != null || constructorType == null ||
+            !TypeUtils.isOfClassType(newClass.getType(), copyType)) {
+            return null;
+        }
+        List<Expression> args = newClass.getArguments();
+        if (args.size() != 2 || !isUtf8(args.get(1))) {
+            return null;
+        }
+        JavaType parameterType = constructorType.getParameterTypes().get(0);
+        if ("byte[]".equals(sourceType)) {
+            return parameterType instanceof JavaType.Array &&
+                   ((JavaType.Array) parameterType).getElemType() == JavaType.Primitive.Byte ? newClass : null;
+        }
+        return TypeUtils.isOfClassType(parameterType, sourceType) ? newClass : null;
+    }
+
+    private static boolean isUtf8(Expression expression) {
+        JavaType.Variable fieldType = null;
+        if (expression instanceof J.Identifier) {
+            fieldType = ((J.Identifier) expression).getFieldType();
+        } else if (expression instanceof J.FieldAccess) {
+            fieldType = ((J.FieldAccess) expression).getName().getFieldType();
+        }
+        return fieldType != null && "UTF_8".equals(fieldType.getName()) &&
+               TypeUtils.isOfClassType(fieldType.getOwner(), "java.nio.charset.StandardCharsets");
+    }
+}
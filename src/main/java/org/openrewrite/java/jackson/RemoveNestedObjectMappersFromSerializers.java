@@ -0,0 +1,238 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.*;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+
+public class RemoveNestedObjectMappersFromSerializers extends ScanningRecipe<RemoveNestedObjectMappersFromSerializers.Accumulator> {
+
+    private static final String OBJECT_MAPPER = "com.fasterxml.jackson.databind.ObjectMapper";
+    private static final AnnotationMatcher JSON_SERIALIZE = new AnnotationMatcher("@com.fasterxml.jackson.databind.annotation.JsonSerialize");
+    private static final AnnotationMatcher JSON_DESERIALIZE = new AnnotationMatcher("@com.fasterxml.jackson.databind.annotation.JsonDeserialize");
+
+    @Override
+    public String getDisplayName() {
+        return "Remove nested `ObjectMapper` use from custom serializers and deserializers";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Custom serializers that write `new ObjectMapper().writeValueAsString(value)` with `writeRawValue`, and deserializers " +
+               "that read the tree of the parser into `new ObjectMapper().readValue(...)`, build a second mapper and make a text " +
+               "round trip for every value. These are replaced with `provider.defaultSerializeValue(value, gen)` and " +
+               "`ctxt.readValue(p, type)`, which stay on the streaming path and use the configuration of the calling mapper. " +
+               "Values of the type the serializer itself handles are only rewritten when it is used on properties alone, " +
+               "as a serializer which is registered for its type, or annotated on it, would otherwise call itself.";
+    }
+
+    public static class Accumulator {
+        // References to serializer and deserializer classes from outside of their own declaration
+        final Map<String, Integer> references = new HashMap<>();
+        // References from @JsonSerialize and @JsonDeserialize annotations on fields and methods
+        final Map<String, Integer> propertyReferences = new HashMap<>();
+
+        /**
+         * @return whether Jackson only finds the serializer or deserializer through property annotations,
+         * rather than by the type of the value.
+         */
+        boolean isOnlyUsedOnProperties(String type) {
+            return references.getOrDefault(type, 0).equals(propertyReferences.get(type));
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, ExecutionContext ctx) {
+                String serializer = CustomSerializers.referencedSerializer(identifier, getCursor());
+                if (serializer != null) {
+                    acc.references.merge(serializer, 1, Integer::sum);
+                    if (isPropertyAnnotationArgument(getCursor())) {
+                        acc.propertyReferences.merge(serializer, 1, Integer::sum);
+                    }
+                }
+                return super.visitIdentifier(identifier, ctx);
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return Preconditions.check(new UsesType<>(OBJECT_MAPPER, false), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation mi = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                J.MethodDeclaration enclosing = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                if (enclosing == null || classDecl == null || classDecl.getType() == null) {
+                    return mi;
+                }
+                JavaType.FullyQualified serialized = "serialize".equals(enclosing.getSimpleName()) && enclosing.getParameters().size() == 3 ?
+                        CustomSerializers.handledType(classDecl.getType(), CustomSerializers.SERIALIZER_BASE_CLASSES) : null;
+                if (serialized != null) {
+                    Expression value = nestedSerialization(mi, parameterName(enclosing, 1));
+                    if (value != null && isDelegationSafe(value.getType(), serialized, classDecl.getType(), acc)) {
+                        maybeRemoveImport(OBJECT_MAPPER);
+                        return JavaTemplate.builder(parameterName(enclosing, 2) + ".defaultSerializeValue(#{any()}, " + parameterName(enclosing, 1) + ")")
+                                .contextSensitive()
+                                .build()
+                                .apply(getCursor(), mi.getCoordinates().replace(), value);
+                    }
+                }
+                JavaType.FullyQualified deserialized = "deserialize".equals(enclosing.getSimpleName()) && enclosing.getParameters().size() == 2 ?
+                        CustomSerializers.handledType(classDecl.getType(), CustomSerializers.DESERIALIZER_BASE_CLASSES) : null;
+                if (deserialized != null) {
+                    Expression type = nestedDeserialization(mi, parameterName(enclosing, 0), parameterName(enclosing, 1));
+                    if (type != null && isDelegationSafe(classLiteralType(type), deserialized, classDecl.getType(), acc)) {
+                        maybeRemoveImport(OBJECT_MAPPER);
+                        return JavaTemplate.builder(parameterName(enclosing, 1) + ".readValue(" + parameterName(enclosing, 0) + ", #{any()})")
+                                .contextSensitive()
+                                .build()
+                                .apply(getCursor(), mi.getCoordinates().replace(), type);
+                    }
+                }
+                return mi;
+            }
+        });
+    }
+
+    /**
+     * @return the value of {@code gen.writeRawValue(new ObjectMapper().writeValueAsString(value))} or
+     * {@code gen.writeTree(new ObjectMapper().valueToTree(value))}, written to the generator of the serializer.
+     */
+    private static @Nullable Expression nestedSerialization(J.MethodInvocation write, String generator) {
+        if (!isIdentifier(write.getSelect(), generator) || write.getArguments().size() != 1 ||
+            !(write.getArguments().get(0) instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation nested = (J.MethodInvocation) write.getArguments().get(0);
+        boolean raw = "writeRawValue".equals(write.getSimpleName()) && "writeValueAsString".equals(nested.getSimpleName());
+        boolean tree = "writeTree".equals(write.getSimpleName()) && "valueToTree".equals(nested.getSimpleName());
+        return (raw || tree) && HoistObjectMapperConstruction.isNewObjectMapper(nested.getSelect()) &&
+               nested.getArguments().size() == 1 ? nested.getArguments().get(0) : null;
+    }
+
+    /**
+     * @return the type argument of a nested mapper that reads the value at the parser, such as
+     * {@code new ObjectMapper().readValue(p.readValueAsTree().toString(), Money.class)}, if it is a class or {@code JavaType}.
+     */
+    private static @Nullable Expression nestedDeserialization(J.MethodInvocation read, String parser, String context) {
+        if (!HoistObjectMapperConstruction.isNewObjectMapper(read.getSelect()) || read.getArguments().size() != 2) {
+            return null;
+        }
+        Expression source = read.getArguments().get(0);
+        Expression type = read.getArguments().get(1);
+        if (!TypeUtils.isOfClassType(type.getType(), "java.lang.Class") &&
+            !TypeUtils.isAssignableTo("com.fasterxml.jackson.databind.JavaType", type.getType())) {
+            return null;
+        }
+        switch (read.getSimpleName()) {
+            case "readValue":
+                if (isIdentifier(source, parser)) {
+                    return type;
+                }
+                if (source instanceof J.MethodInvocation && ((J.MethodInvocation) source).getArguments().stream().allMatch(J.Empty.class::isInstance) &&
+                    ("toString".equals(((J.MethodInvocation) source).getSimpleName()) || "traverse".equals(((J.MethodInvocation) source).getSimpleName())) &&
+                    isTreeAt(((J.MethodInvocation) source).getSelect(), parser, context)) {
+                    return type;
+                }
+                return null;
+            case "treeToValue":
+            case "convertValue":
+                return isTreeAt(source, parser, context) ? type : null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return whether the expression reads the tree at the parser, with {@code p.readValueAsTree()},
+     * {@code p.getCodec().readTree(p)} or {@code ctxt.readTree(p)}.
+     */
+    private static boolean isTreeAt(@Nullable Expression expression, String parser, String context) {
+        if (!(expression instanceof J.MethodInvocation)) {
+            return false;
+        }
+        J.MethodInvocation mi = (J.MethodInvocation) expression;
+        if ("readValueAsTree".equals(mi.getSimpleName())) {
+            return isIdentifier(mi.getSelect(), parser);
+        }
+        if (!"readTree".equals(mi.getSimpleName()) || mi.getArguments().size() != 1 || !isIdentifier(mi.getArguments().get(0), parser)) {
+            return false;
+        }
+        return isIdentifier(mi.getSelect(), context) ||
+               mi.getSelect() instanceof J.MethodInvocation && "getCodec".equals(((J.MethodInvocation) mi.getSelect()).getSimpleName()) &&
+               isIdentifier(((J.MethodInvocation) mi.getSelect()).getSelect(), parser);
+    }
+
+    /**
+     * @return whether handing the value back to Jackson can not end up in the same serializer, which is the case
+     * when its type is unrelated to the type the serializer handles, or when the serializer is only used on properties.
+     */
+    private static boolean isDelegationSafe(@Nullable JavaType valueType, JavaType.FullyQualified handled,
+                                            JavaType.FullyQualified serializer, Accumulator acc) {
+        if (acc.isOnlyUsedOnProperties(serializer.getFullyQualifiedName())) {
+            return true;
+        }
+        // Jackson looks up the serializer by the runtime type, which may be a subtype of the declared type
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(valueType);
+        return type != null && !TypeUtils.isAssignableTo(handled, type) && !TypeUtils.isAssignableTo(type, handled);
+    }
+
+    private static @Nullable JavaType classLiteralType(Expression type) {
+        return type instanceof J.FieldAccess && "class".equals(((J.FieldAccess) type).getSimpleName()) ?
+                ((J.FieldAccess) type).getTarget().getType() : null;
+    }
+
+    /**
+     * @return whether the identifier is the class of a {@code using}, {@code contentUsing} or {@code keyUsing} argument
+     * of a {@code @JsonSerialize} or {@code @JsonDeserialize} annotation on a field or method.
+     */
+    private static boolean isPropertyAnnotationArgument(Cursor identifierCursor) {
+        Cursor fieldAccess = identifierCursor.getParentTreeCursor();
+        Cursor assignment = fieldAccess.getParentTreeCursor();
+        if (!(fieldAccess.getValue() instanceof J.FieldAccess) || !(assignment.getValue() instanceof J.Assignment)) {
+            return false;
+        }
+        Cursor annotation = assignment.getParentTreeCursor();
+        if (!(annotation.getValue() instanceof J.Annotation) ||
+            !(JSON_SERIALIZE.matches(annotation.getValue()) || JSON_DESERIALIZE.matches(annotation.getValue()))) {
+            return false;
+        }
+        Object annotated = annotation.getParentTreeCursor().getValue();
+        return annotated instanceof J.VariableDeclarations || annotated instanceof J.MethodDeclaration;
+    }
+
+    private static String parameterName(J.MethodDeclaration method, int index) {
+        return ((J.VariableDeclarations) method.getParameters().get(index)).getVariables().get(0).getSimpleName();
+    }
+
+    private static boolean isIdentifier(@Nullable Expression expression, String name) {
+        return expression instanceof J.Identifier && name.equals(((J.Identifier) expression).getSimpleName());
+    }
+}
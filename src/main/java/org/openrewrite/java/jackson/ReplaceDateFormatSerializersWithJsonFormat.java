@@ -0,0 +1,460 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.*;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+
+public class ReplaceDateFormatSerializersWithJsonFormat extends ScanningRecipe<ReplaceDateFormatSerializersWithJsonFormat.Accumulator> {
+
+    private static final String DATE = "java.util.Date";
+    private static final String SIMPLE_DATE_FORMAT = "java.text.SimpleDateFormat";
+    private static final String JSON_FORMAT = "com.fasterxml.jackson.annotation.JsonFormat";
+    private static final AnnotationMatcher JSON_SERIALIZE = new AnnotationMatcher("@com.fasterxml.jackson.databind.annotation.JsonSerialize");
+    private static final AnnotationMatcher JSON_DESERIALIZE = new AnnotationMatcher("@com.fasterxml.jackson.databind.annotation.JsonDeserialize");
+
+    /**
+     * Pattern letters that format a {@code Date} the same with a {@code DateTimeFormatter} as with a {@code SimpleDateFormat}.
+     */
+    private static final String COMPATIBLE_PATTERN_LETTERS = "yMdHhmsaE";
+
+    @Override
+    public String getDisplayName() {
+        return "Replace `SimpleDateFormat` based date serializers with `@JsonFormat`";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Custom `Date` serializers and deserializers that create a `SimpleDateFormat` with a constant pattern on every call " +
+               "allocate a formatter, and its calendar, per value. Where a `Date` property uses such a serializer and a " +
+               "deserializer with the same pattern and time zone, both annotations are replaced with " +
+               "`@JsonFormat(pattern = ..., timezone = ...)`, and the serializer and deserializer are deleted once unused. " +
+               "Serializers that remain in use format with a cached `DateTimeFormatter` instead, if their pattern letters mean " +
+               "the same to it. Without an explicit time zone the annotations are kept, as `@JsonFormat` defaults to UTC " +
+               "rather than to the default time zone of the JVM.";
+    }
+
+    public static class Accumulator {
+        final Map<String, DateFormat> serializers = new HashMap<>();
+        final Map<String, DateFormat> deserializers = new HashMap<>();
+        // The serializer and deserializer of each Date property annotated with both, separated by a space
+        final List<String> sites = new ArrayList<>();
+        // References to serializer and deserializer classes from outside of their own declaration
+        final Map<String, Integer> references = new HashMap<>();
+
+        /**
+         * @return whether the serializer and deserializer of a property can be replaced with a {@code @JsonFormat}.
+         */
+        boolean isReplaceable(@Nullable String serializer, @Nullable String deserializer) {
+            DateFormat serializeFormat = serializers.get(serializer);
+            return serializeFormat != null && serializeFormat.timeZone != null &&
+                   serializeFormat.equals(deserializers.get(deserializer));
+        }
+
+        /**
+         * @return the serializers and deserializers which are only referenced from the properties where these are replaced.
+         */
+        Set<String> unused() {
+            Map<String, Integer> replaced = new HashMap<>();
+            for (String site : sites) {
+                String[] classes = site.split(" ");
+                if (isReplaceable(classes[0], classes[1])) {
+                    replaced.merge(classes[0], 1, Integer::sum);
+                    replaced.merge(classes[1], 1, Integer::sum);
+                }
+            }
+            Set<String> unused = new HashSet<>();
+            replaced.forEach((type, count) -> {
+                if (count.equals(references.get(type))) {
+                    unused.add(type);
+                }
+            });
+            return unused;
+        }
+    }
+
+    /**
+     * The pattern and time zone of a {@code SimpleDateFormat}.
+     */
+    static class DateFormat {
+        final String pattern;
+        final @Nullable String timeZone;
+
+        DateFormat(String pattern, @Nullable String timeZone) {
+            this.pattern = pattern;
+            this.timeZone = timeZone;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof DateFormat && pattern.equals(((DateFormat) o).pattern) &&
+                   Objects.equals(timeZone, ((DateFormat) o).timeZone);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(pattern, timeZone);
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                JavaType.FullyQualified type = classDecl.getType();
+                if (type != null) {
+                    DateFormat serializeFormat = serializeFormat(classDecl);
+                    if (serializeFormat != null) {
+                        acc.serializers.put(type.getFullyQualifiedName(), serializeFormat);
+                    }
+                    DateFormat deserializeFormat = deserializeFormat(classDecl);
+                    if (deserializeFormat != null) {
+                        acc.deserializers.put(type.getFullyQualifiedName(), deserializeFormat);
+                    }
+                }
+                return super.visitClassDeclaration(classDecl, ctx);
+            }
+
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                String serializer = usingOf(multiVariable.getLeadingAnnotations(), JSON_SERIALIZE);
+                String deserializer = usingOf(multiVariable.getLeadingAnnotations(), JSON_DESERIALIZE);
+                if (serializer != null && deserializer != null && TypeUtils.isOfClassType(multiVariable.getType(), DATE)) {
+                    acc.sites.add(serializer + " " + deserializer);
+                }
+                return super.visitVariableDeclarations(multiVariable, ctx);
+            }
+
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, ExecutionContext ctx) {
+                String serializer = CustomSerializers.referencedSerializer(identifier, getCursor());
+                if (serializer != null) {
+                    acc.references.merge(serializer, 1, Integer::sum);
+                }
+                return super.visitIdentifier(identifier, ctx);
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        if (acc.serializers.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+        Set<String> unused = acc.unused();
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public @Nullable J visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof J.CompilationUnit && ((J.CompilationUnit) tree).getClasses().size() == 1) {
+                    JavaType.FullyQualified type = ((J.CompilationUnit) tree).getClasses().get(0).getType();
+                    if (type != null && unused.contains(type.getFullyQualifiedName())) {
+                        return null;
+                    }
+                }
+                return super.visit(tree, ctx);
+            }
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                JavaType.FullyQualified type = cd.getType();
+                DateFormat format = type == null ? null : acc.serializers.get(type.getFullyQualifiedName());
+                return format == null || !isCompatiblePattern(format.pattern) ? cd : formatWithCachedFormatter(cd, format, ctx);
+            }
+
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
+                String serializer = usingOf(vd.getLeadingAnnotations(), JSON_SERIALIZE);
+                String deserializer = usingOf(vd.getLeadingAnnotations(), JSON_DESERIALIZE);
+                if (!TypeUtils.isOfClassType(vd.getType(), DATE) || !acc.isReplaceable(serializer, deserializer)) {
+                    return vd;
+                }
+                DateFormat format = acc.serializers.get(serializer);
+                Cursor parent = getCursor().getParentOrThrow();
+                vd = (J.VariableDeclarations) new RemoveAnnotationVisitor(JSON_SERIALIZE).visitNonNull(vd, ctx, parent);
+                vd = (J.VariableDeclarations) new RemoveAnnotationVisitor(JSON_DESERIALIZE).visitNonNull(vd, ctx, parent);
+                maybeRemoveImport(serializer);
+                maybeRemoveImport(deserializer);
+                maybeAddImport(JSON_FORMAT);
+                return JavaTemplate.builder("@JsonFormat(pattern = #{}, timezone = #{})")
+                        .imports(JSON_FORMAT)
+                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-annotations"))
+                        .build()
+                        .apply(new Cursor(parent, vd), vd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)),
+                                literal(format.pattern), literal(Objects.requireNonNull(format.timeZone)));
+            }
+
+            /**
+             * Format with a {@code DateTimeFormatter} that is created once, rather than a {@code SimpleDateFormat} per value.
+             */
+            private J.ClassDeclaration formatWithCachedFormatter(J.ClassDeclaration classDecl, DateFormat format, ExecutionContext ctx) {
+                J.MethodDeclaration serialize = serializeMethod(classDecl);
+                if (serialize == null) {
+                    return classDecl;
+                }
+                String formatter = HoistedFields.uniqueName(classDecl, "FORMATTER", new HashSet<>());
+                // TimeZone accepts IDs such as "EST" or "GMT+5:30" that ZoneId.of() rejects, and falls back to GMT for unknown ones
+                String zone = format.timeZone == null ? "ZoneId.systemDefault()" :
+                        "TimeZone.getTimeZone(" + literal(format.timeZone) + ").toZoneId()";
+                J.ClassDeclaration cd = JavaTemplate.builder("private static final DateTimeFormatter " + formatter +
+                                                             " = DateTimeFormatter.ofPattern(" + literal(format.pattern) + ").withZone(" + zone + ");")
+                        .imports("java.time.ZoneId", "java.time.format.DateTimeFormatter", "java.util.TimeZone")
+                        .build()
+                        .apply(updateCursor(classDecl), classDecl.getBody().getCoordinates().firstStatement());
+                maybeAddImport("java.time.Instant");
+                maybeAddImport("java.time.format.DateTimeFormatter");
+                if (format.timeZone == null) {
+                    maybeAddImport("java.time.ZoneId");
+                    maybeRemoveImport("java.util.TimeZone");
+                }
+                maybeRemoveImport(SIMPLE_DATE_FORMAT);
+
+                String value = ((J.VariableDeclarations) serialize.getParameters().get(0)).getVariables().get(0).getSimpleName();
+                String generator = ((J.VariableDeclarations) serialize.getParameters().get(1)).getVariables().get(0).getSimpleName();
+                Cursor bodyCursor = new Cursor(updateCursor(cd), cd.getBody());
+                return cd.withBody(cd.getBody().withStatements(ListUtils.map(cd.getBody().getStatements(), statement -> {
+                    if (!(statement instanceof J.MethodDeclaration) || !((J.MethodDeclaration) statement).getId().equals(serialize.getId())) {
+                        return statement;
+                    }
+                    J.MethodDeclaration md = (J.MethodDeclaration) statement;
+                    Cursor methodCursor = new Cursor(bodyCursor, md);
+                    // java.sql.Date does not support toInstant()
+                    return JavaTemplate.builder("{\n" + generator + ".writeString(" + formatter + ".format(Instant.ofEpochMilli(" + value + ".getTime())));\n}")
+                            .contextSensitive()
+                            .imports("java.time.Instant")
+                            .build()
+                            .apply(methodCursor, md.getBody().getCoordinates().replace());
+                })));
+            }
+        };
+    }
+
+    /**
+     * @return the format of a {@code Date} serializer which does nothing but format the value with a new {@code SimpleDateFormat}.
+     */
+    private static @Nullable DateFormat serializeFormat(J.ClassDeclaration classDecl) {
+        if (!handles(classDecl, CustomSerializers.SERIALIZER_BASE_CLASSES)) {
+            return null;
+        }
+        J.MethodDeclaration serialize = serializeMethod(classDecl);
+        if (serialize == null || serialize.getBody() == null) {
+            return null;
+        }
+        String value = ((J.VariableDeclarations) serialize.getParameters().get(0)).getVariables().get(0).getSimpleName();
+        List<Statement> statements = serialize.getBody().getStatements();
+        if (statements.isEmpty() || !(statements.get(statements.size() - 1) instanceof J.MethodInvocation)) {
+            return null;
+        }
+        // gen.writeString(format.format(value))
+        J.MethodInvocation write = (J.MethodInvocation) statements.get(statements.size() - 1);
+        if (!"writeString".equals(write.getSimpleName()) || write.getArguments().size() != 1 ||
+            !(write.getArguments().get(0) instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation formatCall = (J.MethodInvocation) write.getArguments().get(0);
+        if (!"format".equals(formatCall.getSimpleName()) || formatCall.getArguments().size() != 1 ||
+            !isIdentifier(formatCall.getArguments().get(0), value)) {
+            return null;
+        }
+        return dateFormat(statements.subList(0, statements.size() - 1), formatCall.getSelect());
+    }
+
+    /**
+     * @return the format of a {@code Date} deserializer which does nothing but parse the text with a new {@code SimpleDateFormat},
+     * and throws when the text can not be parsed.
+     */
+    private static @Nullable DateFormat deserializeFormat(J.ClassDeclaration classDecl) {
+        if (!handles(classDecl, CustomSerializers.DESERIALIZER_BASE_CLASSES)) {
+            return null;
+        }
+        J.MethodDeclaration deserialize = null;
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.MethodDeclaration && "deserialize".equals(((J.MethodDeclaration) statement).getSimpleName()) &&
+                ((J.MethodDeclaration) statement).getParameters().size() == 2) {
+                deserialize = (J.MethodDeclaration) statement;
+            }
+        }
+        if (deserialize == null || deserialize.getBody() == null) {
+            return null;
+        }
+        String parser = ((J.VariableDeclarations) deserialize.getParameters().get(0)).getVariables().get(0).getSimpleName();
+        List<Statement> statements = deserialize.getBody().getStatements();
+        if (statements.isEmpty() || !(statements.get(statements.size() - 1) instanceof J.Try)) {
+            return null;
+        }
+        // try { return format.parse(p.getText()); } catch (ParseException e) { throw ...; }
+        J.Try parseTry = (J.Try) statements.get(statements.size() - 1);
+        if (parseTry.getResources() != null || parseTry.getFinally() != null || parseTry.getCatches().size() != 1 ||
+            parseTry.getBody().getStatements().size() != 1 || !(parseTry.getBody().getStatements().get(0) instanceof J.Return)) {
+            return null;
+        }
+        // Like @JsonFormat the deserializer must fail on malformed dates, rather than return null or a default
+        List<Statement> handler = parseTry.getCatches().get(0).getBody().getStatements();
+        if (handler.size() != 1 || !(handler.get(0) instanceof J.Throw)) {
+            return null;
+        }
+        Expression returned = ((J.Return) parseTry.getBody().getStatements().get(0)).getExpression();
+        if (!(returned instanceof J.MethodInvocation) || !"parse".equals(((J.MethodInvocation) returned).getSimpleName()) ||
+            ((J.MethodInvocation) returned).getArguments().size() != 1 ||
+            !(((J.MethodInvocation) returned).getArguments().get(0) instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation text = (J.MethodInvocation) ((J.MethodInvocation) returned).getArguments().get(0);
+        if (!("getText".equals(text.getSimpleName()) || "getValueAsString".equals(text.getSimpleName())) ||
+            !isIdentifier(text.getSelect(), parser)) {
+            return null;
+        }
+        return dateFormat(statements.subList(0, statements.size() - 1), ((J.MethodInvocation) returned).getSelect());
+    }
+
+    /**
+     * @return the pattern and time zone of the {@code SimpleDateFormat}, created inline or in a local variable
+     * which is only given a constant time zone, or {@code null} if the statements do anything else.
+     */
+    private static @Nullable DateFormat dateFormat(List<Statement> statements, @Nullable Expression format) {
+        if (format instanceof J.NewClass) {
+            String pattern = pattern((J.NewClass) format);
+            return statements.isEmpty() && pattern != null ? new DateFormat(pattern, null) : null;
+        }
+        if (!(format instanceof J.Identifier) || statements.isEmpty() || statements.size() > 2 ||
+            !(statements.get(0) instanceof J.VariableDeclarations)) {
+            return null;
+        }
+        J.VariableDeclarations vd = (J.VariableDeclarations) statements.get(0);
+        J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+        if (vd.getVariables().size() != 1 || !variable.getSimpleName().equals(((J.Identifier) format).getSimpleName()) ||
+            !(variable.getInitializer() instanceof J.NewClass)) {
+            return null;
+        }
+        String pattern = pattern((J.NewClass) variable.getInitializer());
+        if (pattern == null) {
+            return null;
+        }
+        if (statements.size() == 1) {
+            return new DateFormat(pattern, null);
+        }
+        // format.setTimeZone(TimeZone.getTimeZone("UTC"))
+        if (!(statements.get(1) instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation setTimeZone = (J.MethodInvocation) statements.get(1);
+        if (!"setTimeZone".equals(setTimeZone.getSimpleName()) || !isIdentifier(setTimeZone.getSelect(), variable.getSimpleName()) ||
+            !(setTimeZone.getArguments().get(0) instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation getTimeZone = (J.MethodInvocation) setTimeZone.getArguments().get(0);
+        String timeZone = getTimeZone.getArguments().size() == 1 ? stringLiteral(getTimeZone.getArguments().get(0)) : null;
+        return "getTimeZone".equals(getTimeZone.getSimpleName()) && getTimeZone.getMethodType() != null &&
+               TypeUtils.isOfClassType(getTimeZone.getMethodType().getDeclaringType(), "java.util.TimeZone") && timeZone != null ?
+                new DateFormat(pattern, timeZone) : null;
+    }
+
+    private static @Nullable String pattern(J.NewClass newClass) {
+        return TypeUtils.isOfClassType(newClass.getType(), SIMPLE_DATE_FORMAT) && newClass.getBody() == null &&
+               newClass.getArguments().size() == 1 ? stringLiteral(newClass.getArguments().get(0)) : null;
+    }
+
+    private static J.@Nullable MethodDeclaration serializeMethod(J.ClassDeclaration classDecl) {
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.MethodDeclaration && "serialize".equals(((J.MethodDeclaration) statement).getSimpleName()) &&
+                ((J.MethodDeclaration) statement).getParameters().size() == 3) {
+                return (J.MethodDeclaration) statement;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return whether the class handles dates, without any state that its serialize or deserialize method could depend on.
+     */
+    private static boolean handles(J.ClassDeclaration classDecl, Set<String> baseClasses) {
+        if (classDecl.getType() == null || !TypeUtils.isOfClassType(CustomSerializers.handledType(classDecl.getType(), baseClasses), DATE)) {
+            return false;
+        }
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations && !((J.VariableDeclarations) statement).hasModifier(J.Modifier.Type.Static)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the class of a {@code using = DateSerializer.class} argument of a matching annotation.
+     */
+    private static @Nullable String usingOf(List<J.Annotation> annotations, AnnotationMatcher matcher) {
+        for (J.Annotation annotation : annotations) {
+            if (!matcher.matches(annotation) || annotation.getArguments() == null || annotation.getArguments().size() != 1 ||
+                !(annotation.getArguments().get(0) instanceof J.Assignment)) {
+                continue;
+            }
+            J.Assignment using = (J.Assignment) annotation.getArguments().get(0);
+            if (isIdentifier(using.getVariable(), "using") && using.getAssignment() instanceof J.FieldAccess &&
+                "class".equals(((J.FieldAccess) using.getAssignment()).getSimpleName())) {
+                JavaType.FullyQualified type = TypeUtils.asFullyQualified(((J.FieldAccess) using.getAssignment()).getTarget().getType());
+                return type == null ? null : type.getFullyQualifiedName();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return whether the pattern only uses letters which {@code DateTimeFormatter} formats like {@code SimpleDateFormat},
+     * and milliseconds only as {@code SSS}, as a single {@code S} is a fraction of a second to it.
+     */
+    private static boolean isCompatiblePattern(String pattern) {
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && c == 'S') {
+                if (!pattern.startsWith("SSS", i) || pattern.startsWith("SSSS", i) || (i > 0 && pattern.charAt(i - 1) == 'S')) {
+                    return false;
+                }
+                i += 2;
+            } else if (!quoted && Character.isLetter(c) && COMPATIBLE_PATTERN_LETTERS.indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return !quoted;
+    }
+
+    private static boolean isIdentifier(@Nullable Expression expression, String name) {
+        return expression instanceof J.Identifier && name.equals(((J.Identifier) expression).getSimpleName());
+    }
+
+    private static @Nullable String stringLiteral(Expression expression) {
+        return expression instanceof J.Literal && ((J.Literal) expression).getValue() instanceof String ?
+                (String) ((J.Literal) expression).getValue() : null;
+    }
+
+    private static String literal(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.SemanticallyEqual;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class ReplaceSerializationRoundTripWithConvertValue extends Recipe {
+
+    private static final List<MethodMatcher> WRITE = Arrays.asList(
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper writeValueAsString(java.lang.Object)", true),
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper writeValueAsBytes(java.lang.Object)", true));
+
+    private static final List<MethodMatcher> READ = Arrays.asList(
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper readValue(java.lang.String, ..)", true),
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper readValue(byte[], ..)", true));
+
+    @Override
+    public String getDisplayName() {
+        return "Replace serialize-then-parse round trips with `convertValue`";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Converting a value with `mapper.readValue(mapper.writeValueAsString(src), Target.class)` produces a full JSON " +
+               "document for each conversion. `mapper.convertValue(src, Target.class)` buffers the tokens instead. " +
+               "A JSON string held in a local variable is inlined first, when its only use is the conversion in the next statement. " +
+               "Round trips in a `try` that catches `IOException` or one of its subclasses, or in a method that declares " +
+               "to throw one of them, are left alone, " +
+               "as `convertValue` reports failures with an `IllegalArgumentException` instead. " +
+               "Codehaus mappers are left alone, as their `convertValue` returns the source itself when it is " +
+               "already of the target type, where the round trip made a copy.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(Preconditions.or(
+                new UsesMethod<>(WRITE.get(0)), new UsesMethod<>(WRITE.get(1))), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitBlock(J.Block block, ExecutionContext ctx) {
+                if (isCaughtAsIOException(getCursor())) {
+                    return super.visitBlock(block, ctx);
+                }
+                List<Statement> statements = SingleUseVariables.inlineIntoNextStatement(
+                        block.getStatements(), method -> roundTripSource(method) != null);
+                return super.visitBlock(block.withStatements(statements), ctx);
+            }
+
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation mi = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                J.MethodInvocation write = roundTripSource(mi);
+                if (write == null || isCaughtAsIOException(getCursor())) {
+                    return mi;
+                }
+                Expression source = write.getArguments().get(0).withPrefix(mi.getArguments().get(0).getPrefix());
+                JavaType.Method type = mi.getMethodType();
+                if (type != null && write.getMethodType() != null) {
+                    JavaType sourceType = write.getMethodType().getParameterTypes().get(0);
+                    type = type.withName("convertValue").withParameterTypes(ListUtils.mapFirst(type.getParameterTypes(), p -> sourceType));
+                }
+                return mi
+                        .withName(mi.getName().withSimpleName("convertValue").withType(type))
+                        .withMethodType(type)
+                        .withArguments(ListUtils.mapFirst(mi.getArguments(), a -> source));
+            }
+        });
+    }
+
+    /**
+     * @return the {@code writeValueAsString} or {@code writeValueAsBytes} call passed to {@code readValue} on the same mapper, if any.
+     */
+    private static J.@Nullable MethodInvocation roundTripSource(J.MethodInvocation method) {
+        if (!matchesAny(READ, method) || !(method.getArguments().get(0) instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation write = (J.MethodInvocation) method.getArguments().get(0);
+        Expression mapper = method.getSelect();
+        if (!matchesAny(WRITE, write) || !(mapper instanceof J.Identifier || mapper instanceof J.FieldAccess) ||
+            write.getSelect() == null || !SemanticallyEqual.areEqual(mapper, write.getSelect())) {
+            return null;
+        }
+        return write;
+    }
+
+    private static boolean matchesAny(List<MethodMatcher> matchers, J.MethodInvocation method) {
+        for (MethodMatcher matcher : matchers) {
+            if (matcher.matches(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether exceptions thrown at the cursor are caught by a {@code catch} of {@code IOException},
+     * such as {@code JsonProcessingException}, or declared by the enclosing method, as callers may rely on them
+     * and they would no longer be thrown by {@code convertValue}.
+     */
+    private static boolean isCaughtAsIOException(Cursor cursor) {
+        for (Cursor c = cursor; c.getValue() instanceof J; c = c.getParentTreeCursor()) {
+            Object value = c.getValue();
+            if (value instanceof J.MethodDeclaration) {
+                List<NameTree> thrown = ((J.MethodDeclaration) value).getThrows();
+                if (thrown != null) {
+                    for (NameTree type : thrown) {
+                        if (isIOException(type.getType())) {
+                            return true;
+                        }
+                    }
+                }
+                return false;
+            }
+            if (value instanceof J.Lambda || value instanceof J.ClassDeclaration || value instanceof JavaSourceFile) {
+                return false;
+            }
+            if (value instanceof J.Try) {
+                for (J.Try.Catch aCatch : ((J.Try) value).getCatches()) {
+                    JavaType caught = aCatch.getParameter().getTree().getType();
+                    List<JavaType> types = caught instanceof JavaType.MultiCatch ?
+                            ((JavaType.MultiCatch) caught).getThrowableTypes() : Arrays.asList(caught);
+                    for (JavaType type : types) {
+                        if (isIOException(type)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isIOException(@Nullable JavaType type) {
+        return TypeUtils.isAssignableTo("java.io.IOException", type);
+    }
+}
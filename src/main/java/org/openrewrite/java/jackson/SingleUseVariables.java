@@ -0,0 +1,138 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.tree.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Shared logic for the recipes that collapse two calls which are split across statements through a local variable,
+ * such as {@code JsonNode node = mapper.readTree(json); Foo foo = mapper.treeToValue(node, Foo.class);}.
+ */
+final class SingleUseVariables {
+
+    private SingleUseVariables() {
+    }
+
+    /**
+     * Inline local variables into the next statement, if that is their only use in the rest of the block,
+     * and they are passed as the first argument to a method invocation that is collapsible once they are inlined.
+     *
+     * @return the statements with the variables inlined, or the same list if there are none.
+     */
+    static List<Statement> inlineIntoNextStatement(List<Statement> statements, Predicate<J.MethodInvocation> collapsible) {
+        List<Statement> inlined = new ArrayList<>(statements.size());
+        boolean changed = false;
+        for (int i = 0; i < statements.size(); i++) {
+            J.VariableDeclarations.NamedVariable variable = singleUseVariable(statements, i, collapsible);
+            if (variable == null) {
+                inlined.add(statements.get(i));
+                continue;
+            }
+            Expression initializer = variable.getInitializer();
+            inlined.add(((Statement) new JavaVisitor<Integer>() {
+                @Override
+                public J visitIdentifier(J.Identifier identifier, Integer p) {
+                    return isReferenceTo(identifier, variable) ? initializer.withPrefix(identifier.getPrefix()) : identifier;
+                }
+            }.visitNonNull(statements.get(i + 1), 0)).withPrefix(statements.get(i).getPrefix()));
+            changed = true;
+            i++;
+        }
+        return changed ? inlined : statements;
+    }
+
+    private static J.VariableDeclarations.@Nullable NamedVariable singleUseVariable(
+            List<Statement> statements, int index, Predicate<J.MethodInvocation> collapsible) {
+        if (index + 1 >= statements.size() || !(statements.get(index) instanceof J.VariableDeclarations)) {
+            return null;
+        }
+        J.VariableDeclarations vd = (J.VariableDeclarations) statements.get(index);
+        if (vd.getVariables().size() != 1 || !(vd.getVariables().get(0).getInitializer() instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+        Expression initializer = variable.getInitializer();
+
+        AtomicInteger references = new AtomicInteger();
+        JavaIsoVisitor<AtomicInteger> countReferences = new JavaIsoVisitor<AtomicInteger>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicInteger count) {
+                if (isReferenceTo(identifier, variable)) {
+                    count.incrementAndGet();
+                }
+                return identifier;
+            }
+        };
+        for (Statement statement : statements.subList(index + 1, statements.size())) {
+            countReferences.visit(statement, references);
+        }
+        if (references.get() != 1) {
+            return null;
+        }
+
+        Statement next = statements.get(index + 1);
+        AtomicInteger collapsibleUses = new AtomicInteger();
+        new JavaIsoVisitor<AtomicInteger>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicInteger count) {
+                if (!method.getArguments().isEmpty() &&
+                    method.getArguments().get(0) instanceof J.Identifier &&
+                    isReferenceTo((J.Identifier) method.getArguments().get(0), variable) &&
+                    isEvaluatedOnceInOrder(getCursor(), next) &&
+                    collapsible.test(method.withArguments(ListUtils.mapFirst(method.getArguments(), a -> initializer)))) {
+                    count.incrementAndGet();
+                }
+                return super.visitMethodInvocation(method, count);
+            }
+        }.visit(next, collapsibleUses);
+        return collapsibleUses.get() == 1 ? variable : null;
+    }
+
+    /**
+     * Only inline into expressions that are evaluated exactly once, and not later than the variable initializer would be,
+     * so not into lambdas, loops, conditionals or try blocks.
+     */
+    private static boolean isEvaluatedOnceInOrder(Cursor cursor, Statement statement) {
+        for (Cursor c = cursor; ; c = c.getParentTreeCursor()) {
+            Object value = c.getValue();
+            if (!(value instanceof J.MethodInvocation || value instanceof J.VariableDeclarations ||
+                  value instanceof J.VariableDeclarations.NamedVariable || value instanceof J.Return ||
+                  value instanceof J.Assignment || value instanceof J.TypeCast || value instanceof J.Parentheses ||
+                  value instanceof J.Throw || (value instanceof J.NewClass && ((J.NewClass) value).getBody() == null))) {
+                return false;
+            }
+            if (value == statement) {
+                return true;
+            }
+        }
+    }
+
+    static boolean isReferenceTo(J.Identifier identifier, J.VariableDeclarations.NamedVariable variable) {
+        JavaType.Variable fieldType = identifier.getFieldType();
+        return identifier.getSimpleName().equals(variable.getSimpleName()) &&
+               fieldType != null && fieldType.getOwner() instanceof JavaType.Method;
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.*;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+
+import static java.util.Collections.singletonList;
+
+public class UseJsonPointerForNodeNavigation extends Recipe {
+
+    private static final String JSON_POINTER = "com.fasterxml.jackson.core.JsonPointer";
+    private static final MethodMatcher PATH = new MethodMatcher("com.fasterxml.jackson.databind.JsonNode path(java.lang.String)", true);
+    private static final MethodMatcher GET = new MethodMatcher("com.fasterxml.jackson.databind.JsonNode get(java.lang.String)", true);
+
+    @Override
+    public String getDisplayName() {
+        return "Navigate `JsonNode` trees with a precompiled `JsonPointer`";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Replace chains of `path(\"a\").path(\"b\")` calls with constant keys by `at(A_B_POINTER)`, " +
+               "using a `private static final JsonPointer` that is compiled once. Like `path`, `at` returns a missing node " +
+               "rather than `null`. For chains of `get` calls the last call is kept, so a missing value is still `null`: " +
+               "`get(\"a\").get(\"b\").get(\"c\")` becomes `at(A_B_POINTER).get(\"c\")`. " +
+               "Keys that consist of digits only are left alone, as a pointer would also match these against array indexes.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(Preconditions.or(new UsesMethod<>(PATH), new UsesMethod<>(GET)), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                Cursor cursor = getCursor();
+                if (!HoistedFields.canDeclareStaticFields(cd, cursor)) {
+                    return cd;
+                }
+
+                List<Chain> chains = new ArrayList<>();
+                for (Statement statement : cd.getBody().getStatements()) {
+                    if (statement instanceof J.MethodDeclaration && ((J.MethodDeclaration) statement).getBody() != null) {
+                        findChains((J.MethodDeclaration) statement, chains);
+                    }
+                }
+                if (chains.isEmpty()) {
+                    return cd;
+                }
+
+                // Reuse the pointers which are already there, and add a field for the others
+                Map<String, String> fieldByInitializer = new HashMap<>();
+                HoistedFields.staticFinalFields(cd).forEach((name, field) -> {
+                    if (field.getInitializer() != null) {
+                        fieldByInitializer.putIfAbsent(field.getInitializer().printTrimmed(cursor), name);
+                    }
+                });
+                Set<String> taken = new HashSet<>();
+                Map<UUID, Chain> replacements = new HashMap<>();
+                for (Chain chain : chains) {
+                    String initializer = "JsonPointer.compile(\"" + chain.pointer() + "\")";
+                    String name = fieldByInitializer.get(initializer);
+                    if (name == null) {
+                        name = HoistedFields.uniqueName(cd, fieldName(chain.pointerKeys()), taken);
+                        fieldByInitializer.put(initializer, name);
+                        cd = JavaTemplate.builder("private static final JsonPointer " + name + " = " + initializer + ";")
+                                .imports(JSON_POINTER)
+                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-core"))
+                                .build()
+                                .apply(updateCursor(cd), HoistedFields.afterStaticFields(cd));
+                        maybeAddImport(JSON_POINTER);
+                    }
+                    chain.field = name;
+                    replacements.put(chain.outermost.getId(), chain);
+                }
+
+                Map<String, JavaType.@Nullable Variable> fieldTypes = new HashMap<>();
+                for (Chain chain : chains) {
+                    fieldTypes.put(chain.field, HoistedFields.fieldType(cd, chain.field));
+                }
+                JavaVisitor<ExecutionContext> replaceChains = new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        Chain chain = replacements.get(method.getId());
+                        if (chain == null) {
+                            return super.visitMethodInvocation(method, ctx);
+                        }
+                        Expression root = (Expression) visitNonNull(chain.root, ctx, getCursor());
+                        if (!chain.keepLastGet) {
+                            return at(method, root, chain.field, fieldTypes.get(chain.field));
+                        }
+                        J.MethodInvocation prefix = (J.MethodInvocation) method.getSelect();
+                        return method.withSelect(at(prefix, root, chain.field, fieldTypes.get(chain.field)));
+                    }
+                };
+                Cursor bodyCursor = new Cursor(updateCursor(cd), cd.getBody());
+                return cd.withBody(cd.getBody().withStatements(ListUtils.map(cd.getBody().getStatements(), statement ->
+                        statement instanceof J.MethodDeclaration ?
+                                (Statement) replaceChains.visitNonNull(statement, ctx, bodyCursor) :
+                                statement)));
+            }
+        });
+    }
+
+    /**
+     * A chain of {@code path} or {@code get} calls with constant keys on a node.
+     */
+    private static class Chain {
+        final J.MethodInvocation outermost;
+        final Expression root;
+        final List<String> keys;
+        // For get chains the last call stays, so a missing value is still null
+        final boolean keepLastGet;
+        String field = "";
+
+        Chain(J.MethodInvocation outermost, Expression root, List<String> keys, boolean keepLastGet) {
+            this.outermost = outermost;
+            this.root = root;
+            this.keys = keys;
+            this.keepLastGet = keepLastGet;
+        }
+
+        List<String> pointerKeys() {
+            return keepLastGet ? keys.subList(0, keys.size() - 1) : keys;
+        }
+
+        String pointer() {
+            StringBuilder pointer = new StringBuilder();
+            for (String key : pointerKeys()) {
+                pointer.append('/').append(key.replace("~", "~0").replace("/", "~1")
+                        .replace("\\", "\\\\").replace("\"", "\\\""));
+            }
+            return pointer.toString();
+        }
+    }
+
+    private static void findChains(J.MethodDeclaration method, List<Chain> chains) {
+        new JavaIsoVisitor<List<Chain>>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, List<Chain> found) {
+                Chain chain = chain(method);
+                if (chain == null) {
+                    return super.visitMethodInvocation(method, found);
+                }
+                found.add(chain);
+                // The keys are literals, so only the root can contain other chains
+                visit(chain.root, found, getCursor());
+                return method;
+            }
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, List<Chain> found) {
+                // Local classes are handled on their own
+                return classDecl;
+            }
+        }.visit(method.getBody(), chains);
+    }
+
+    private static @Nullable Chain chain(J.MethodInvocation method) {
+        MethodMatcher matcher = PATH.matches(method) ? PATH : GET.matches(method) ? GET : null;
+        if (matcher == null) {
+            return null;
+        }
+        List<String> keys = new ArrayList<>();
+        Expression current = method;
+        while (current instanceof J.MethodInvocation && matcher.matches((J.MethodInvocation) current)) {
+            J.MethodInvocation call = (J.MethodInvocation) current;
+            String key = key(call.getArguments().get(0));
+            if (key == null || call.getSelect() == null) {
+                break;
+            }
+            keys.add(0, key);
+            current = call.getSelect();
+        }
+        boolean keepLastGet = matcher == GET;
+        if (keys.size() < (keepLastGet ? 3 : 2)) {
+            return null;
+        }
+        return new Chain(method, current, keys, keepLastGet);
+    }
+
+    private static @Nullable String key(Expression argument) {
+        if (!(argument instanceof J.Literal) || !(((J.Literal) argument).getValue() instanceof String)) {
+            return null;
+        }
+        String key = (String) ((J.Literal) argument).getValue();
+        return key.isEmpty() || key.chars().allMatch(Character::isDigit) || key.chars().anyMatch(Character::isISOControl) ? null : key;
+    }
+
+    private static J.MethodInvocation at(J.MethodInvocation call, Expression root, String field, JavaType.@Nullable Variable fieldType) {
+        J.Identifier pointer = HoistedFields.reference(call.getArguments().get(0), field, fieldType).withPrefix(Space.EMPTY);
+        JavaType.Method type = call.getMethodType();
+        if (type != null) {
+            type = type.withName("at").withParameterTypes(singletonList(pointer.getType()));
+        }
+        return call
+                .withSelect(root)
+                .withName(call.getName().withSimpleName("at").withType(type))
+                .withMethodType(type)
+                .withArguments(singletonList(pointer));
+    }
+
+    /**
+     * Name the field after the keys, such as {@code ADDRESS_CITY_POINTER} for {@code path("address").path("city")}.
+     */
+    private static String fieldName(List<String> keys) {
+        String name = HoistedFields.constantName(String.join("_", keys));
+        return (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0)) ? "PATH_" : "") + name + "_POINTER";
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson.codehaus;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.ChangePackage;
+import org.openrewrite.java.ChangeType;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.*;
+
+public class ChangeCodehausTypesToFasterXML extends ScanningRecipe<Set<String>> {
+
+    private static final String ORG_CODEHAUS_JACKSON = "org.codehaus.jackson";
+
+    /**
+     * Exact type changes come first, as they only need a lookup of the types in use, followed by the package changes
+     * which need a prefix scan. Nested types are listed before their enclosing type.
+     */
+    private static final List<CodehausMapping> MAPPINGS = Arrays.asList(
+            CodehausMapping.type("org.codehaus.jackson.map.JsonSerializer", "com.fasterxml.jackson.databind.JsonSerializer"),
+            CodehausMapping.type("org.codehaus.jackson.map.annotate.JsonSerialize$Inclusion", "com.fasterxml.jackson.annotation.JsonInclude$Include"),
+            CodehausMapping.type("org.codehaus.jackson.map.annotate.JsonSerialize$Typing", "com.fasterxml.jackson.databind.annotation.JsonSerialize$Typing"),
+            CodehausMapping.type("org.codehaus.jackson.map.annotate.JsonSerialize", "com.fasterxml.jackson.databind.annotation.JsonSerialize"),
+            CodehausMapping.type("org.codehaus.jackson.map.ObjectMapper", "com.fasterxml.jackson.databind.ObjectMapper"),
+            CodehausMapping.type("org.codehaus.jackson.map.SerializationConfig$Feature", "com.fasterxml.jackson.databind.SerializationFeature"),
+            CodehausMapping.type("org.codehaus.jackson.map.DeserializationConfig$Feature", "com.fasterxml.jackson.databind.DeserializationFeature"),
+            CodehausMapping.type("org.codehaus.jackson.JsonNode", "com.fasterxml.jackson.databind.JsonNode"),
+            CodehausMapping.type("org.codehaus.jackson.JsonFactory", "com.fasterxml.jackson.core.JsonFactory"),
+            CodehausMapping.type("org.codehaus.jackson.JsonParser", "com.fasterxml.jackson.core.JsonParser"),
+            CodehausMapping.type("org.codehaus.jackson.JsonGenerator", "com.fasterxml.jackson.core.JsonGenerator"),
+            CodehausMapping.type("org.codehaus.jackson.JsonToken", "com.fasterxml.jackson.core.JsonToken"),
+            CodehausMapping.type("org.codehaus.jackson.JsonEncoding", "com.fasterxml.jackson.core.JsonEncoding"),
+            CodehausMapping.type("org.codehaus.jackson.JsonParseException", "com.fasterxml.jackson.core.JsonParseException"),
+            CodehausMapping.type("org.codehaus.jackson.JsonGenerationException", "com.fasterxml.jackson.core.JsonGenerationException"),
+            CodehausMapping.type("org.codehaus.jackson.JsonProcessingException", "com.fasterxml.jackson.core.JsonProcessingException"),
+            CodehausMapping.type("org.codehaus.jackson.JsonLocation", "com.fasterxml.jackson.core.JsonLocation"),
+            CodehausMapping.type("org.codehaus.jackson.JsonStreamContext", "com.fasterxml.jackson.core.JsonStreamContext"),
+            CodehausMapping.type("org.codehaus.jackson.ObjectCodec", "com.fasterxml.jackson.core.ObjectCodec"),
+            CodehausMapping.type("org.codehaus.jackson.PrettyPrinter", "com.fasterxml.jackson.core.PrettyPrinter"),
+            CodehausMapping.type("org.codehaus.jackson.Base64Variant", "com.fasterxml.jackson.core.Base64Variant"),
+            CodehausMapping.type("org.codehaus.jackson.Base64Variants", "com.fasterxml.jackson.core.Base64Variants"),
+            CodehausMapping.type("org.codehaus.jackson.SerializableString", "com.fasterxml.jackson.core.SerializableString"),
+            CodehausMapping.type("org.codehaus.jackson.FormatSchema", "com.fasterxml.jackson.core.FormatSchema"),
+            CodehausMapping.type("org.codehaus.jackson.Version", "com.fasterxml.jackson.core.Version"),
+            // Classes of the utility package which moved elsewhere than the rest of it, so before the package change
+            CodehausMapping.type("org.codehaus.jackson.util.TokenBuffer", "com.fasterxml.jackson.databind.util.TokenBuffer"),
+            CodehausMapping.type("org.codehaus.jackson.util.CharTypes", "com.fasterxml.jackson.core.io.CharTypes"),
+            CodehausMapping.pkg("org.codehaus.jackson.annotate", "com.fasterxml.jackson.annotation"),
+            CodehausMapping.pkg("org.codehaus.jackson.io", "com.fasterxml.jackson.core.io"),
+            CodehausMapping.pkg("org.codehaus.jackson.util", "com.fasterxml.jackson.core.util"),
+            CodehausMapping.pkg("org.codehaus.jackson.map.ext", "com.fasterxml.jackson.databind.ext"),
+            CodehausMapping.pkg("org.codehaus.jackson.map.ser", "com.fasterxml.jackson.databind.ser"),
+            CodehausMapping.pkg("org.codehaus.jackson.node", "com.fasterxml.jackson.databind.node")
+    );
+
+    @Override
+    public String getDisplayName() {
+        return "Change Codehaus types to FasterXML";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Change the Codehaus Jackson types and packages to their FasterXML counterparts. " +
+                "The types in use are collected across the repository first, so that only the type and package changes " +
+                "which have something to change are run.";
+    }
+
+    @Override
+    public Set<String> getInitialValue(ExecutionContext ctx) {
+        return new HashSet<>();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Set<String> codehausTypes) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J preVisit(@NonNull J tree, ExecutionContext ctx) {
+                stopAfterPreVisit();
+                if (tree instanceof JavaSourceFile) {
+                    JavaSourceFile sourceFile = (JavaSourceFile) tree;
+                    for (JavaType type : sourceFile.getTypesInUse().getTypesInUse()) {
+                        collect(codehausTypes, TypeUtils.asFullyQualified(type));
+                    }
+                    for (JavaType.Method method : sourceFile.getTypesInUse().getUsedMethods()) {
+                        collect(codehausTypes, method.getDeclaringType());
+                    }
+                    for (JavaType.Variable variable : sourceFile.getTypesInUse().getVariables()) {
+                        collect(codehausTypes, TypeUtils.asFullyQualified(variable.getOwner()));
+                    }
+                    for (J.Import anImport : sourceFile.getImports()) {
+                        collect(codehausTypes, anImport.getTypeName());
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Set<String> codehausTypes) {
+        List<TreeVisitor<?, ExecutionContext>> visitors = new ArrayList<>();
+        for (CodehausMapping mapping : MAPPINGS) {
+            if (mapping.isUsedIn(codehausTypes)) {
+                visitors.add(mapping.getRecipe().getVisitor());
+            }
+        }
+        if (visitors.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                Tree t = tree;
+                for (TreeVisitor<?, ExecutionContext> visitor : visitors) {
+                    if (!(t instanceof SourceFile) || !visitor.isAcceptable((SourceFile) t, ctx)) {
+                        break;
+                    }
+                    t = visitor.visit(t, ctx);
+                }
+                return t;
+            }
+        };
+    }
+
+    private static void collect(Set<String> codehausTypes, JavaType.@Nullable FullyQualified type) {
+        if (type != null) {
+            collect(codehausTypes, type.getFullyQualifiedName());
+        }
+    }
+
+    private static void collect(Set<String> codehausTypes, String fullyQualifiedName) {
+        if (fullyQualifiedName.startsWith(ORG_CODEHAUS_JACKSON)) {
+            codehausTypes.add(fullyQualifiedName.replace('$', '.'));
+        }
+    }
+
+    private static class CodehausMapping {
+        private final String oldName;
+        private final Recipe recipe;
+
+        private CodehausMapping(String oldName, Recipe recipe) {
+            this.oldName = oldName.replace('$', '.');
+            this.recipe = recipe;
+        }
+
+        static CodehausMapping type(String oldFullyQualifiedTypeName, String newFullyQualifiedTypeName) {
+            return new CodehausMapping(oldFullyQualifiedTypeName,
+                    new ChangeType(oldFullyQualifiedTypeName, newFullyQualifiedTypeName, null));
+        }
+
+        static CodehausMapping pkg(String oldPackageName, String newPackageName) {
+            return new CodehausMapping(oldPackageName + ".",
+                    new ChangePackage(oldPackageName, newPackageName, true));
+        }
+
+        Recipe getRecipe() {
+            return recipe;
+        }
+
+        boolean isUsedIn(Set<String> codehausTypes) {
+            for (String type : codehausTypes) {
+                // Nested types move along with the enclosing type, sub packages along with the package
+                if (type.equals(oldName) || type.startsWith(oldName.endsWith(".") ? oldName : oldName + ".")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
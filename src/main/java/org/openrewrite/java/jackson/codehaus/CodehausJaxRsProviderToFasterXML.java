@@ -0,0 +1,434 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson.codehaus;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.ChangeType;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.RandomizeIdVisitor;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.maven.ChangeDependencyGroupIdAndArtifactId;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.text.PlainText;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class CodehausJaxRsProviderToFasterXML extends ScanningRecipe<CodehausJaxRsProviderToFasterXML.Accumulator> {
+
+    private static final String CODEHAUS_JAXRS = "org.codehaus.jackson.jaxrs";
+    private static final String CODEHAUS_PROVIDER = CODEHAUS_JAXRS + ".JacksonJsonProvider";
+    private static final String CODEHAUS_JAXB_PROVIDER = CODEHAUS_JAXRS + ".JacksonJaxbJsonProvider";
+    private static final String RESOLVER = "ObjectMapperContextResolver";
+    private static final String NOT_MIGRATED = "No FasterXML replacement for this Codehaus JAX-RS class or package";
+
+    @Option(displayName = "FasterXML Jackson version",
+            description = "The version of the FasterXML JAX-RS provider to replace the Codehaus provider with.",
+            example = "2.x",
+            required = false)
+    @Nullable
+    String version;
+
+    @Override
+    public String getDisplayName() {
+        return "Migrate the Codehaus JAX-RS provider to FasterXML";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Replace the Codehaus `JacksonJsonProvider` with the FasterXML `jackson-jaxrs-json-provider`, or with the " +
+               "`jackson-jakarta-rs-json-provider` when the project already uses `jakarta.ws.rs`. The providers, the " +
+               "exception mappers and `Annotations` are changed in Java sources, in `web.xml` registrations and in " +
+               "`META-INF/services` files, and the Maven dependency is changed along with it. Other references to the " +
+               "Codehaus JAX-RS package, such as `MapperConfigurator` or a package scanned for providers, are marked. A single `ContextResolver<ObjectMapper>` is added next to the JAX-RS " +
+               "`Application`, or the first class that uses the provider, and registered along with the provider, so " +
+               "that the provider uses one shared mapper which is configured once. No resolver is added when the " +
+               "`JacksonJaxbJsonProvider` is used, as a plain mapper from a resolver would replace the mapper it " +
+               "configures for JAXB annotations.";
+    }
+
+    public static class Accumulator {
+        boolean providerInUse;
+        boolean jaxbProviderInUse;
+        boolean jakarta;
+        boolean resolverExists;
+
+        @Nullable
+        Path resolverDirectory;
+
+        @Nullable
+        String resolverPackage;
+
+        boolean resolverInApplication;
+
+        String namespace() {
+            return jakarta ? "jakarta" : "javax";
+        }
+
+        String provider() {
+            return jakarta ? "com.fasterxml.jackson.jakarta.rs.json.JacksonJsonProvider" : "com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider";
+        }
+
+        String jaxbProvider() {
+            return jakarta ? "com.fasterxml.jackson.jakarta.rs.json.JacksonXmlBindJsonProvider" : "com.fasterxml.jackson.jaxrs.json.JacksonJaxbJsonProvider";
+        }
+
+        /**
+         * @return the FasterXML classes of the Codehaus JAX-RS classes which have a direct replacement.
+         */
+        Map<String, String> classes() {
+            String rs = jakarta ? "com.fasterxml.jackson.jakarta.rs" : "com.fasterxml.jackson.jaxrs";
+            Map<String, String> classes = new LinkedHashMap<>();
+            classes.put(CODEHAUS_PROVIDER, provider());
+            classes.put(CODEHAUS_JAXB_PROVIDER, jaxbProvider());
+            classes.put(CODEHAUS_JAXRS + ".JsonMappingExceptionMapper", rs + ".base.JsonMappingExceptionMapper");
+            classes.put(CODEHAUS_JAXRS + ".JsonParseExceptionMapper", rs + ".base.JsonParseExceptionMapper");
+            classes.put(CODEHAUS_JAXRS + ".Annotations", rs + ".cfg.Annotations");
+            return classes;
+        }
+
+        boolean generatesResolver() {
+            return providerInUse && !jaxbProviderInUse && !resolverExists && resolverDirectory != null;
+        }
+
+        @Nullable
+        String resolver() {
+            if (!generatesResolver()) {
+                return null;
+            }
+            return resolverPackage == null || resolverPackage.isEmpty() ? RESOLVER : resolverPackage + "." + RESOLVER;
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof JavaSourceFile) {
+                    scan((JavaSourceFile) tree, acc);
+                } else if (isRegistration(tree)) {
+                    String text = ((SourceFile) tree).printAll();
+                    acc.providerInUse |= text.contains(CODEHAUS_JAXRS);
+                    acc.jaxbProviderInUse |= text.contains(CODEHAUS_JAXB_PROVIDER);
+                }
+                return tree;
+            }
+        };
+    }
+
+    /**
+     * @return whether the file may register providers, which is a {@code web.xml} or a file in {@code META-INF/services}.
+     */
+    private static boolean isRegistration(@Nullable Tree tree) {
+        if (!(tree instanceof PlainText || tree instanceof Xml.Document)) {
+            return false;
+        }
+        String path = ((SourceFile) tree).getSourcePath().toString().replace('\\', '/');
+        return (tree instanceof Xml.Document && (path.equals("web.xml") || path.endsWith("/web.xml"))) ||
+               path.contains("META-INF/services/");
+    }
+
+    private static void scan(JavaSourceFile sourceFile, Accumulator acc) {
+        boolean usesProvider = false;
+        for (JavaType type : sourceFile.getTypesInUse().getTypesInUse()) {
+            JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+            if (fq != null && fq.getFullyQualifiedName().startsWith("jakarta.ws.rs")) {
+                acc.jakarta = true;
+            } else if (fq != null && fq.getFullyQualifiedName().startsWith(CODEHAUS_JAXRS)) {
+                usesProvider = true;
+                acc.jaxbProviderInUse |= CODEHAUS_JAXB_PROVIDER.equals(fq.getFullyQualifiedName());
+            }
+        }
+        for (J.Import anImport : sourceFile.getImports()) {
+            usesProvider |= anImport.getTypeName().startsWith(CODEHAUS_JAXRS);
+            acc.jaxbProviderInUse |= CODEHAUS_JAXB_PROVIDER.equals(anImport.getTypeName());
+        }
+        acc.providerInUse |= usesProvider;
+
+        boolean application = false;
+        for (J.ClassDeclaration classDecl : sourceFile.getClasses()) {
+            application |= isApplication(classDecl);
+            // Also the resolver which is generated in an earlier cycle, as its JAX-RS types are not resolved
+            acc.resolverExists |= isMapperResolver(classDecl) || RESOLVER.equals(classDecl.getSimpleName());
+        }
+        // Prefer the package of the application, which registers its providers, over that of any other class
+        if ((usesProvider || application) && !acc.resolverInApplication && (application || acc.resolverDirectory == null)) {
+            Path sourcePath = sourceFile.getSourcePath();
+            acc.resolverDirectory = sourcePath.getParent();
+            acc.resolverPackage = sourceFile.getPackageDeclaration() == null ? "" :
+                    sourceFile.getPackageDeclaration().getPackageName();
+            acc.resolverInApplication = application;
+        }
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        if (!acc.generatesResolver()) {
+            return Collections.emptyList();
+        }
+        String namespace = acc.namespace();
+        String source = (acc.resolverPackage == null || acc.resolverPackage.isEmpty() ? "" : "package " + acc.resolverPackage + ";\n\n") +
+                        "import com.fasterxml.jackson.databind.ObjectMapper;\n" +
+                        "import " + namespace + ".ws.rs.ext.ContextResolver;\n" +
+                        "import " + namespace + ".ws.rs.ext.Provider;\n" +
+                        "\n" +
+                        "/**\n" +
+                        " * Provides the one {@link ObjectMapper} which is shared by the JSON provider, so that it is configured once.\n" +
+                        " */\n" +
+                        "@Provider\n" +
+                        "public class " + RESOLVER + " implements ContextResolver<ObjectMapper> {\n" +
+                        "\n" +
+                        "    private static final ObjectMapper MAPPER = new ObjectMapper();\n" +
+                        "\n" +
+                        "    @Override\n" +
+                        "    public ObjectMapper getContext(Class<?> type) {\n" +
+                        "        return MAPPER;\n" +
+                        "    }\n" +
+                        "}\n";
+        Path sourcePath = acc.resolverDirectory.resolve(RESOLVER + ".java");
+        return JavaParser.fromJavaVersion().build()
+                .parse(ctx, source)
+                .map(sourceFile -> (SourceFile) sourceFile.withSourcePath(sourcePath))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        if (!acc.providerInUse) {
+            return TreeVisitor.noop();
+        }
+        String resolver = acc.resolver();
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof JavaSourceFile) {
+                    Tree t = tree;
+                    for (Map.Entry<String, String> replacement : acc.classes().entrySet()) {
+                        t = new ChangeType(replacement.getKey(), replacement.getValue(), null).getVisitor().visit(t, ctx);
+                    }
+                    t = new MarkUnmigrated().visit(t, ctx);
+                    return resolver == null ? t : new RegisterResolver(acc.provider(), resolver).visit(t, ctx);
+                }
+                if (tree instanceof Xml.Document && ((Xml.Document) tree).getMarkers().findFirst(MavenResolutionResult.class).isPresent()) {
+                    return new ChangeDependencyGroupIdAndArtifactId(
+                            "org.codehaus.jackson",
+                            "jackson-jaxrs",
+                            acc.jakarta ? "com.fasterxml.jackson.jakarta.rs" : "com.fasterxml.jackson.jaxrs",
+                            acc.jakarta ? "jackson-jakarta-rs-json-provider" : "jackson-jaxrs-json-provider",
+                            version == null ? "2.x" : version,
+                            null).getVisitor().visit(tree, ctx);
+                }
+                if (!isRegistration(tree)) {
+                    return tree;
+                }
+                if (tree instanceof Xml.Document) {
+                    return new ChangeRegistrations(acc, resolver).visit(tree, ctx);
+                }
+                PlainText text = (PlainText) tree;
+                String replaced = replaceProviders(text.getText(), acc, null);
+                return replaced.contains(CODEHAUS_JAXRS) ? SearchResult.found(text.withText(replaced), NOT_MIGRATED) : text.withText(replaced);
+            }
+        };
+    }
+
+    /**
+     * Replace the Codehaus classes which have a FasterXML replacement in the text of a registration. The resolver is
+     * registered right after the provider, if there is one to register. Anything else in the Codehaus package, such as
+     * a package which is scanned for providers, is left for the caller to mark.
+     */
+    private static String replaceProviders(String text, Accumulator acc, @Nullable String resolver) {
+        if (!text.contains(CODEHAUS_JAXRS)) {
+            return text;
+        }
+        String replaced = text;
+        for (Map.Entry<String, String> replacement : acc.classes().entrySet()) {
+            String fasterxml = replacement.getValue();
+            if (CODEHAUS_PROVIDER.equals(replacement.getKey()) && resolver != null && !text.contains(resolver)) {
+                fasterxml += "," + resolver;
+            }
+            // Only whole class names, so that the provider does not match a longer class name that starts with it
+            replaced = replaced.replaceAll(Pattern.quote(replacement.getKey()) + "(?![\\w$])", Matcher.quoteReplacement(fasterxml));
+        }
+        return replaced;
+    }
+
+    private static class ChangeRegistrations extends XmlIsoVisitor<ExecutionContext> {
+        private final Accumulator acc;
+
+        @Nullable
+        private final String resolver;
+
+        ChangeRegistrations(Accumulator acc, @Nullable String resolver) {
+            this.acc = acc;
+            this.resolver = resolver;
+        }
+
+        @Override
+        public Xml.CharData visitCharData(Xml.CharData charData, ExecutionContext ctx) {
+            Xml.Tag tag = getCursor().firstEnclosing(Xml.Tag.class);
+            // Only class lists in the init parameters of a servlet accept more than one class
+            String classes = tag != null && "param-value".equals(tag.getName()) ? resolver : null;
+            String replaced = replaceProviders(charData.getText(), acc, classes);
+            Xml.CharData c = charData.withText(replaced);
+            return replaced.contains(CODEHAUS_JAXRS) ? SearchResult.found(c, NOT_MIGRATED) : c;
+        }
+
+        @Override
+        public Xml.Attribute visitAttribute(Xml.Attribute attribute, ExecutionContext ctx) {
+            Xml.Attribute a = super.visitAttribute(attribute, ctx);
+            String replaced = replaceProviders(a.getValue().getValue(), acc, null);
+            a = a.withValue(a.getValue().withValue(replaced));
+            return replaced.contains(CODEHAUS_JAXRS) ? SearchResult.found(a, NOT_MIGRATED) : a;
+        }
+    }
+
+    /**
+     * Mark the references to Codehaus JAX-RS classes which are left after the ones with a replacement are changed.
+     */
+    private static class MarkUnmigrated extends JavaIsoVisitor<ExecutionContext> {
+        @Override
+        public J.Import visitImport(J.Import anImport, ExecutionContext ctx) {
+            return anImport.getTypeName().startsWith(CODEHAUS_JAXRS + ".") ? SearchResult.found(anImport, NOT_MIGRATED) : anImport;
+        }
+
+        @Override
+        public J.Identifier visitIdentifier(J.Identifier identifier, ExecutionContext ctx) {
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(identifier.getType());
+            return type != null && type.getFullyQualifiedName().startsWith(CODEHAUS_JAXRS + ".") &&
+                   identifier.getSimpleName().equals(type.getClassName()) ?
+                    SearchResult.found(identifier, NOT_MIGRATED) : identifier;
+        }
+    }
+
+    /**
+     * Register the resolver with the JAX-RS application, next to the provider.
+     */
+    private static class RegisterResolver extends JavaIsoVisitor<ExecutionContext> {
+        private final String provider;
+        private final String resolver;
+
+        RegisterResolver(String provider, String resolver) {
+            this.provider = provider;
+            this.resolver = resolver;
+        }
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            return isApplication(classDecl) ? super.visitClassDeclaration(classDecl, ctx) : classDecl;
+        }
+
+        @Override
+        public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+            J.Block b = super.visitBlock(block, ctx);
+            if (b.getStatements().stream().anyMatch(statement -> registers(statement, resolver))) {
+                return b;
+            }
+            return b.withStatements(ListUtils.flatMap(b.getStatements(), statement -> {
+                if (!registers(statement, provider)) {
+                    return statement;
+                }
+                J.CompilationUnit cu = getCursor().firstEnclosing(J.CompilationUnit.class);
+                if (cu != null && cu.getPackageDeclaration() != null && resolver.contains(".") &&
+                    !resolver.substring(0, resolver.lastIndexOf('.')).equals(cu.getPackageDeclaration().getPackageName())) {
+                    maybeAddImport(resolver);
+                }
+                return Arrays.asList(statement, registration(statement));
+            }));
+        }
+
+        /**
+         * Copy the registration of the provider, such as {@code classes.add(JacksonJsonProvider.class)}, to
+         * register the resolver in the same way.
+         */
+        private Statement registration(Statement statement) {
+            JavaType.ShallowClass resolverType = JavaType.ShallowClass.build(resolver);
+            Statement copy = (Statement) new JavaIsoVisitor<Integer>() {
+                @Override
+                public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                    if (TypeUtils.isOfClassType(identifier.getType(), provider)) {
+                        return identifier.withSimpleName(resolverType.getClassName()).withType(resolverType);
+                    }
+                    return identifier;
+                }
+            }.visitNonNull(statement, 0);
+            return (Statement) new RandomizeIdVisitor<Integer>().visitNonNull(copy, 0);
+        }
+
+        /**
+         * @return whether the statement passes the class, or a new instance of the class without arguments, to a method.
+         */
+        private static boolean registers(Statement statement, String type) {
+            if (!(statement instanceof J.MethodInvocation)) {
+                return false;
+            }
+            for (Expression argument : ((J.MethodInvocation) statement).getArguments()) {
+                if (argument instanceof J.FieldAccess && "class".equals(((J.FieldAccess) argument).getSimpleName()) &&
+                    TypeUtils.isOfClassType(((J.FieldAccess) argument).getTarget().getType(), type)) {
+                    return true;
+                }
+                if (argument instanceof J.NewClass && TypeUtils.isOfClassType(argument.getType(), type) &&
+                    ((J.NewClass) argument).getBody() == null &&
+                    ((J.NewClass) argument).getArguments().stream().allMatch(J.Empty.class::isInstance)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static boolean isApplication(J.ClassDeclaration classDecl) {
+        return classDecl.getExtends() != null &&
+               (TypeUtils.isOfClassType(classDecl.getExtends().getType(), "javax.ws.rs.core.Application") ||
+                TypeUtils.isOfClassType(classDecl.getExtends().getType(), "jakarta.ws.rs.core.Application"));
+    }
+
+    private static boolean isMapperResolver(J.ClassDeclaration classDecl) {
+        if (classDecl.getImplements() == null) {
+            return false;
+        }
+        for (TypeTree implemented : classDecl.getImplements()) {
+            JavaType.Parameterized type = TypeUtils.asParameterized(implemented.getType());
+            if (type == null || !type.getFullyQualifiedName().endsWith(".ws.rs.ext.ContextResolver") ||
+                type.getTypeParameters().size() != 1) {
+                continue;
+            }
+            JavaType.FullyQualified resolved = TypeUtils.asFullyQualified(type.getTypeParameters().get(0));
+            if (resolved != null && "ObjectMapper".equals(resolved.getClassName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson.codehaus;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Visits the annotations of classes, methods, fields and parameters, but not method bodies, initializer blocks or
+ * variable initializers, as these cannot hold any of the annotations the Codehaus recipes are interested in.
+ * The exception are the local and anonymous classes declared in there, which are visited like any other class.
+ */
+class DeclarationHeaderVisitor<P> extends JavaIsoVisitor<P> {
+
+    @Override
+    public J.Block visitBlock(J.Block block, P p) {
+        Object parent = getCursor().getParentTreeCursor().getValue();
+        if (parent instanceof J.ClassDeclaration || parent instanceof J.NewClass || declaresClass(block)) {
+            return super.visitBlock(block, p);
+        }
+        return block;
+    }
+
+    @Override
+    public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, P p) {
+        return declaresClass(variable.getInitializer()) ? super.visitVariable(variable, p) : variable;
+    }
+
+    /**
+     * @return whether the tree declares a local or anonymous class, which may have annotated members.
+     */
+    private static boolean declaresClass(@Nullable J tree) {
+        if (tree == null) {
+            return false;
+        }
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public @Nullable J visit(@Nullable Tree tree, AtomicBoolean found) {
+                return found.get() ? (J) tree : super.visit(tree, found);
+            }
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, AtomicBoolean found) {
+                found.set(true);
+                return classDecl;
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, AtomicBoolean found) {
+                if (newClass.getBody() != null) {
+                    found.set(true);
+                    return newClass;
+                }
+                return super.visitNewClass(newClass, found);
+            }
+        }.reduce(tree, new AtomicBoolean()).get();
+    }
+}
@@ -24,7 +24,6 @@ import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 
@@ -55,10 +54,10 @@ public class JsonIncludeAnnotation extends Recipe {
                 new IntroduceJsonIncludeVisitor());
     }
 
-    private static class IntroduceJsonIncludeVisitor extends JavaVisitor<ExecutionContext> {
+    private static class IntroduceJsonIncludeVisitor extends DeclarationHeaderVisitor<ExecutionContext> {
         @Override
-        public J visitClassDeclaration(J.ClassDeclaration decl, ExecutionContext ctx) {
-            J.ClassDeclaration cd = (J.ClassDeclaration) super.visitClassDeclaration(decl, ctx);
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration decl, ExecutionContext ctx) {
+            J.ClassDeclaration cd = super.visitClassDeclaration(decl, ctx);
 
             // Loop over annotations and extract the include argument from the old JsonSerialize annotation
             AtomicReference<String> includeArgument = new AtomicReference<>();
@@ -79,8 +78,8 @@ public class JsonIncludeAnnotation extends Recipe {
         }
 
         @Override
-        public J visitMethodDeclaration(J.MethodDeclaration decl, ExecutionContext ctx) {
-            J.MethodDeclaration md = (J.MethodDeclaration) super.visitMethodDeclaration(decl, ctx);
+        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration decl, ExecutionContext ctx) {
+            J.MethodDeclaration md = super.visitMethodDeclaration(decl, ctx);
 
             // Loop over annotations and extract the include argument from the old JsonSerialize annotation
             AtomicReference<String> includeArgument = new AtomicReference<>();
@@ -101,8 +100,8 @@ public class JsonIncludeAnnotation extends Recipe {
         }
 
         @Override
-        public J visitVariableDeclarations(J.VariableDeclarations decl, ExecutionContext ctx) {
-            J.VariableDeclarations vd = (J.VariableDeclarations) super.visitVariableDeclarations(decl, ctx);
+        public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations decl, ExecutionContext ctx) {
+            J.VariableDeclarations vd = super.visitVariableDeclarations(decl, ctx);
 
             // Loop over annotations and extract the include argument from the old JsonSerialize annotation
             AtomicReference<String> includeArgument = new AtomicReference<>();
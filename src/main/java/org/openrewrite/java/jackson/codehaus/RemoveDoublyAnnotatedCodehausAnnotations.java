@@ -15,18 +15,24 @@
  */
 package org.openrewrite.java.jackson.codehaus;
 
+import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.service.AnnotationService;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.Space;
+import org.openrewrite.java.tree.TypeUtils;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.function.BiFunction;
 
 public class RemoveDoublyAnnotatedCodehausAnnotations extends Recipe {
 
@@ -55,24 +61,15 @@ public class RemoveDoublyAnnotatedCodehausAnnotations extends Recipe {
                         // Map from codehaus -> fasterxml annotation
                         Map<J.Annotation, J.Annotation> doubleAnnotated = new FindDoublyAnnotatedVisitor().reduce(tree, new HashMap<>());
 
-                        AnnotationMatcher removeCodehausMatcher = new AnnotationMatcher(
-                                // ignored in practice, as we only match annotations previously found just above
-                                "@org.codehaus.jackson.map.annotate.JsonSerialize", true) {
-                            @Override
-                            public boolean matches(J.Annotation annotation) {
-                                return doubleAnnotated.containsKey(annotation);
-                            }
-                        };
-                        doAfterVisit(new RemoveAnnotationVisitor(removeCodehausMatcher));
-                        maybeRemoveImport("org.codehaus.jackson.map.annotate.JsonSerialize.Inclusion.*");
-                        maybeRemoveImport("org.codehaus.jackson.map.annotate.JsonSerialize.Typing.*");
-                        doAfterVisit(new ShortenFullyQualifiedTypeReferences().getVisitor());
+                        if (!doubleAnnotated.isEmpty()) {
+                            doAfterVisit(new RemoveCodehausAnnotationsVisitor(doubleAnnotated));
+                        }
                         return tree;
                     }
                 });
     }
 
-    static class FindDoublyAnnotatedVisitor extends JavaIsoVisitor<Map<J.Annotation, J.Annotation>> {
+    static class FindDoublyAnnotatedVisitor extends DeclarationHeaderVisitor<Map<J.Annotation, J.Annotation>> {
 
         @Override
         public J.Annotation visitAnnotation(J.Annotation annotation, Map<J.Annotation, J.Annotation> doublyAnnotated) {
@@ -89,4 +86,178 @@ public class RemoveDoublyAnnotatedCodehausAnnotations extends Recipe {
             return a;
         }
     }
+
+    @RequiredArgsConstructor
+    private static class RemoveCodehausAnnotationsVisitor extends DeclarationHeaderVisitor<ExecutionContext> {
+
+        // Map from codehaus -> fasterxml annotation
+        private final Map<J.Annotation, J.Annotation> doubleAnnotated;
+
+        // The ids of the remaining fasterxml annotations, the only places where type references need to be shortened
+        private final Set<UUID> shortenScopes = new HashSet<>();
+
+        @Override
+        public J.CompilationUnit visitCompilationUnit(J.CompilationUnit compilationUnit, ExecutionContext ctx) {
+            J.CompilationUnit cu = super.visitCompilationUnit(compilationUnit, ctx);
+            if (!shortenScopes.isEmpty()) {
+                maybeRemoveImport("org.codehaus.jackson.map.annotate.JsonSerialize.Inclusion.*");
+                maybeRemoveImport("org.codehaus.jackson.map.annotate.JsonSerialize.Typing.*");
+                doAfterVisit(new ShortenAnnotationTypeReferences(shortenScopes));
+            }
+            return cu;
+        }
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+            return removeLeadingAnnotations(cd, cd.getLeadingAnnotations(), cd.getModifiers(),
+                    J.ClassDeclaration::withLeadingAnnotations, J.ClassDeclaration::withModifiers,
+                    (c, prefix) -> c.getPadding().withKind(c.getPadding().getKind().withPrefix(prefix)));
+        }
+
+        @Override
+        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+            J.MethodDeclaration md = super.visitMethodDeclaration(method, ctx);
+            return removeLeadingAnnotations(md, md.getLeadingAnnotations(), md.getModifiers(),
+                    J.MethodDeclaration::withLeadingAnnotations, J.MethodDeclaration::withModifiers,
+                    (m, prefix) -> m.getReturnTypeExpression() != null ?
+                            m.withReturnTypeExpression(m.getReturnTypeExpression().withPrefix(prefix)) :
+                            m.withName(m.getName().withPrefix(prefix)));
+        }
+
+        @Override
+        public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+            J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
+            return removeLeadingAnnotations(vd, vd.getLeadingAnnotations(), vd.getModifiers(),
+                    J.VariableDeclarations::withLeadingAnnotations, J.VariableDeclarations::withModifiers,
+                    (v, prefix) -> v.getTypeExpression() != null ? v.withTypeExpression(v.getTypeExpression().withPrefix(prefix)) : v);
+        }
+
+        /**
+         * Remove the doubly annotated Codehaus annotations from the leading annotations of a declaration. When the first
+         * annotation is removed, its prefix moves to the annotation, the modifier or, through {@code withPrefix}, the
+         * part of the declaration that now comes first.
+         */
+        private <T extends J> T removeLeadingAnnotations(T declaration, List<J.Annotation> annotations, List<J.Modifier> modifiers,
+                                                         BiFunction<T, List<J.Annotation>, T> withAnnotations,
+                                                         BiFunction<T, List<J.Modifier>, T> withModifiers,
+                                                         BiFunction<T, Space, T> withPrefix) {
+            List<J.Annotation> leadingAnnotations = removeCodehausAnnotations(annotations);
+            collectShortenScopes(annotations, leadingAnnotations);
+            Space prefix = removedPrefix(annotations, leadingAnnotations);
+            if (prefix == null) {
+                return withAnnotations.apply(declaration, leadingAnnotations);
+            }
+            if (!leadingAnnotations.isEmpty()) {
+                return withAnnotations.apply(declaration, ListUtils.mapFirst(leadingAnnotations, a -> a.withPrefix(prefix)));
+            }
+            T d = withAnnotations.apply(declaration, leadingAnnotations);
+            if (!modifiers.isEmpty()) {
+                return withModifiers.apply(d, ListUtils.mapFirst(modifiers, m -> m.withPrefix(prefix)));
+            }
+            return withPrefix.apply(d, prefix);
+        }
+
+        private List<J.Annotation> removeCodehausAnnotations(List<J.Annotation> annotations) {
+            return ListUtils.map(annotations, a -> {
+                if (doubleAnnotated.containsKey(a)) {
+                    maybeRemoveReferencedImports(a);
+                    return null;
+                }
+                return a;
+            });
+        }
+
+        /**
+         * @return the prefix of the first annotation if it was removed, to be moved onto the element that now comes first.
+         */
+        private static @Nullable Space removedPrefix(List<J.Annotation> before, List<J.Annotation> after) {
+            if (before == after || before.isEmpty() || (!after.isEmpty() && after.get(0) == before.get(0))) {
+                return null;
+            }
+            return before.get(0).getPrefix();
+        }
+
+        private void collectShortenScopes(List<J.Annotation> before, List<J.Annotation> after) {
+            for (J.Annotation annotation : before) {
+                J.Annotation fasterxml = doubleAnnotated.get(annotation);
+                if (fasterxml != null && !after.contains(annotation)) {
+                    shortenScopes.add(fasterxml.getId());
+                }
+            }
+        }
+
+        private void maybeRemoveReferencedImports(J.Annotation annotation) {
+            Set<String> referencedTypes = new HashSet<>();
+            new JavaIsoVisitor<Set<String>>() {
+                @Override
+                public J.Identifier visitIdentifier(J.Identifier identifier, Set<String> types) {
+                    JavaType.FullyQualified type = TypeUtils.asFullyQualified(identifier.getType());
+                    if (type != null && type.getFullyQualifiedName().startsWith("org.codehaus.jackson")) {
+                        types.add(type.getFullyQualifiedName());
+                    }
+                    return identifier;
+                }
+            }.visit(annotation, referencedTypes);
+            for (String type : referencedTypes) {
+                maybeRemoveImport(type);
+            }
+        }
+    }
+
+    /**
+     * Shortens the fully qualified type references in the given annotations in a single visit of the compilation unit,
+     * rather than one {@link ShortenFullyQualifiedTypeReferences} visit per annotation. A reference is kept as it is
+     * when its simple name already refers to another type in the compilation unit.
+     */
+    @RequiredArgsConstructor
+    private static class ShortenAnnotationTypeReferences extends JavaVisitor<ExecutionContext> {
+        private final Set<UUID> scopes;
+
+        // Map from simple name -> fully qualified name of the types referred to by their simple name
+        private final Map<String, String> simpleNames = new HashMap<>();
+
+        @Override
+        public J visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+            for (J.Import anImport : cu.getImports()) {
+                if (!anImport.isStatic() && !"*".equals(anImport.getQualid().getSimpleName())) {
+                    simpleNames.put(anImport.getQualid().getSimpleName(), anImport.getTypeName());
+                }
+            }
+            new JavaIsoVisitor<Map<String, String>>() {
+                @Override
+                public J.FieldAccess visitFieldAccess(J.FieldAccess fieldAccess, Map<String, String> names) {
+                    // Only the leftmost part of a qualified name is a simple name
+                    visit(fieldAccess.getTarget(), names);
+                    return fieldAccess;
+                }
+
+                @Override
+                public J.Identifier visitIdentifier(J.Identifier identifier, Map<String, String> names) {
+                    JavaType.FullyQualified type = TypeUtils.asFullyQualified(identifier.getType());
+                    if (identifier.getFieldType() == null && type != null && identifier.getSimpleName().equals(type.getClassName())) {
+                        names.putIfAbsent(identifier.getSimpleName(), type.getFullyQualifiedName());
+                    }
+                    return identifier;
+                }
+            }.visit(cu, simpleNames);
+            return super.visitCompilationUnit(cu, ctx);
+        }
+
+        @Override
+        public J visitFieldAccess(J.FieldAccess fieldAccess, ExecutionContext ctx) {
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(fieldAccess.getType());
+            J.Annotation annotation = getCursor().firstEnclosing(J.Annotation.class);
+            if (annotation == null || !scopes.contains(annotation.getId()) || type == null || type.getOwningClass() != null ||
+                !fieldAccess.isFullyQualifiedClassReference(type.getFullyQualifiedName())) {
+                return super.visitFieldAccess(fieldAccess, ctx);
+            }
+            String existing = simpleNames.putIfAbsent(type.getClassName(), type.getFullyQualifiedName());
+            if (existing != null && !existing.equals(type.getFullyQualifiedName())) {
+                return fieldAccess;
+            }
+            maybeAddImport(type.getFullyQualifiedName());
+            return fieldAccess.getName().withPrefix(fieldAccess.getPrefix());
+        }
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson.codehaus;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.dependencies.AddDependency;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.maven.ExcludeDependency;
+import org.openrewrite.maven.MavenIsoVisitor;
+import org.openrewrite.maven.RemoveDependency;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.ResolvedDependency;
+import org.openrewrite.text.PlainText;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.*;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class RemoveResidualCodehausDependencies extends ScanningRecipe<RemoveResidualCodehausDependencies.Accumulator> {
+
+    private static final String ORG_CODEHAUS_JACKSON = "org.codehaus.jackson";
+
+    @Option(displayName = "FasterXML Jackson version",
+            description = "The version of the FasterXML Jackson artifacts to add, when they are used but no longer on the classpath.",
+            example = "2.x",
+            required = false)
+    @Nullable
+    String version;
+
+    @Override
+    public String getDisplayName() {
+        return "Remove residual Jackson Codehaus (legacy) dependencies";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Once no source file references Codehaus Jackson anymore, remove the `org.codehaus.jackson` artifacts " +
+               "that are left on the classpath, such as `jackson-jaxrs`, `jackson-xc` and `jackson-smile`. " +
+               "Direct dependencies are removed, and transitive dependencies are excluded from the dependencies " +
+               "that pull them in. Only the FasterXML annotations, core and databind artifacts that are used are added.";
+    }
+
+    public static class Accumulator {
+        boolean codehausInUse;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (acc.codehausInUse) {
+                    return tree;
+                }
+                if (tree instanceof JavaSourceFile) {
+                    acc.codehausInUse = usesCodehaus((JavaSourceFile) tree);
+                } else if (tree instanceof PlainText ||
+                           (tree instanceof Xml.Document && !((Xml.Document) tree).getMarkers().findFirst(MavenResolutionResult.class).isPresent())) {
+                    // Such as providers registered in a `web.xml` or in `META-INF/services`
+                    acc.codehausInUse = ((SourceFile) tree).printAll().contains(ORG_CODEHAUS_JACKSON);
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        if (acc.codehausInUse) {
+            return TreeVisitor.noop();
+        }
+        return new MavenIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                Set<String> artifactIds = new TreeSet<>();
+                for (List<ResolvedDependency> dependencies : getResolutionResult().getDependencies().values()) {
+                    for (ResolvedDependency dependency : dependencies) {
+                        if (ORG_CODEHAUS_JACKSON.equals(dependency.getGroupId())) {
+                            artifactIds.add(dependency.getArtifactId());
+                        }
+                    }
+                }
+                Xml.Document d = document;
+                for (String artifactId : artifactIds) {
+                    d = (Xml.Document) new RemoveDependency(ORG_CODEHAUS_JACKSON, artifactId, null).getVisitor().visitNonNull(d, ctx);
+                }
+                // Only exclude from the remaining dependencies, as a direct dependency can also be pulled in by others
+                for (String artifactId : artifactIds) {
+                    d = (Xml.Document) new ExcludeDependency(ORG_CODEHAUS_JACKSON, artifactId, null).getVisitor().visitNonNull(d, ctx);
+                }
+                return d;
+            }
+        };
+    }
+
+    @Override
+    public List<Recipe> getRecipeList() {
+        String newVersion = version == null ? "2.x" : version;
+        return Arrays.asList(
+                addDependency("jackson-annotations", "com.fasterxml.jackson.annotation.*", newVersion),
+                addDependency("jackson-core", "com.fasterxml.jackson.core.*", newVersion),
+                addDependency("jackson-databind", "com.fasterxml.jackson.databind.*", newVersion));
+    }
+
+    private static Recipe addDependency(String artifactId, String onlyIfUsing, String version) {
+        return new AddDependency(
+                "com.fasterxml.jackson.core",
+                artifactId,
+                version,
+                null,
+                onlyIfUsing,
+                null, null, null, null, null, null, null, null, true);
+    }
+
+    private static boolean usesCodehaus(JavaSourceFile sourceFile) {
+        for (JavaType type : sourceFile.getTypesInUse().getTypesInUse()) {
+            if (isCodehaus(TypeUtils.asFullyQualified(type))) {
+                return true;
+            }
+        }
+        for (JavaType.Method method : sourceFile.getTypesInUse().getUsedMethods()) {
+            if (isCodehaus(method.getDeclaringType())) {
+                return true;
+            }
+        }
+        for (J.Import anImport : sourceFile.getImports()) {
+            if (anImport.getTypeName().startsWith(ORG_CODEHAUS_JACKSON)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCodehaus(JavaType.@Nullable FullyQualified type) {
+        return type != null && type.getFullyQualifiedName().startsWith(ORG_CODEHAUS_JACKSON);
+    }
+}
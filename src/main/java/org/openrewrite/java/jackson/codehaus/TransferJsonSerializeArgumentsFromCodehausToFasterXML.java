@@ -17,6 +17,7 @@ package org.openrewrite.java.jackson.codehaus;
 
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
@@ -27,15 +28,13 @@ import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Space;
+import org.openrewrite.marker.SearchResult;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 public class TransferJsonSerializeArgumentsFromCodehausToFasterXML extends Recipe {
 
-    private static final String[] TRANSFERABLE_ARGUMENTS = {"using", "contentUsing", "keyUsing", "nullUsing"};
+    private static final String[] TRANSFERABLE_ARGUMENTS = {"using", "contentUsing", "keyUsing", "nullUsing", "typing"};
 
     @Override
     public String getDisplayName() {
@@ -44,8 +43,9 @@ public class TransferJsonSerializeArgumentsFromCodehausToFasterXML extends Recip
 
     @Override
     public String getDescription() {
-        return "Transfer @JsonSerialize annotation arguments (using, contentUsing, keyUsing, nullUsing) from Codehaus " +
-                "to FasterXML. If the argument was set already, it will not be transferred.";
+        return "Transfer @JsonSerialize annotation arguments (using, contentUsing, keyUsing, nullUsing, typing) from Codehaus " +
+                "to FasterXML. If the argument was set already, it will not be transferred. A `typing` that differs " +
+                "from the one set already is marked, as the serialization of the member would no longer be statically typed.";
     }
 
     @Override
@@ -61,68 +61,85 @@ public class TransferJsonSerializeArgumentsFromCodehausToFasterXML extends Recip
                         // Map from codehaus -> fasterxml annotation
                         Map<J.Annotation, J.Annotation> doubleAnnotated = new FindDoublyAnnotatedVisitor().reduce(tree, new HashMap<>());
 
-                        for (String argumentName : TRANSFERABLE_ARGUMENTS) {
-                            transferArgument(doubleAnnotated, argumentName);
+                        // Transfer all arguments in a single visit
+                        Map<J.Annotation, List<Expression>> transferable = mapToTransferableArguments(doubleAnnotated);
+                        if (!transferable.isEmpty()) {
+                            doAfterVisit(new TransferArgumentsVisitor(transferable));
                         }
 
                         return tree;
                     }
-
-                    private void transferArgument(Map<J.Annotation, J.Annotation> doubleAnnotated, String argumentName) {
-                        Map<J.Annotation, Expression> argumentExpressionMap = mapToArgumentExpression(doubleAnnotated, argumentName);
-                        doAfterVisit(new TransferArgumentsVisitor(argumentExpressionMap, argumentName));
-                    }
                 });
     }
 
-    private static Map<J.Annotation, Expression> mapToArgumentExpression(Map<J.Annotation, J.Annotation> doubleAnnotated, String argumentName) {
-        // Map from fasterxml -> value of "using=..." in codehaus annotation
-        Map<J.Annotation, Expression> mapToArgument = new HashMap<>();
+    private static Map<J.Annotation, List<Expression>> mapToTransferableArguments(Map<J.Annotation, J.Annotation> doubleAnnotated) {
+        // Map from fasterxml -> "using=..." and similar arguments in codehaus annotation, in the order of TRANSFERABLE_ARGUMENTS
+        Map<J.Annotation, List<Expression>> mapToArguments = new HashMap<>();
         doubleAnnotated.forEach((key, value) -> {
-            if (key.getArguments() != null || key.getArguments().isEmpty()) {
-                key.getArguments().forEach(arg -> {
-                    if (arg instanceof J.Assignment) {
-                        J.Assignment assign = (J.Assignment) arg;
-                        J.Identifier varId = (J.Identifier) assign.getVariable();
-                        if (argumentName.equals(varId.getSimpleName())) {
-                            mapToArgument.put(value, arg);
+            if (key.getArguments() != null) {
+                for (String argumentName : TRANSFERABLE_ARGUMENTS) {
+                    for (Expression arg : key.getArguments()) {
+                        if (argumentName.equals(argumentName(arg))) {
+                            mapToArguments.computeIfAbsent(value, k -> new ArrayList<>()).add(arg);
                         }
                     }
-                });
+                }
             }
         });
-        return mapToArgument;
+        return mapToArguments;
+    }
+
+    private static @Nullable String argumentName(Expression arg) {
+        if (arg instanceof J.Assignment) {
+            J.Assignment assign = (J.Assignment) arg;
+            J.Identifier varId = (J.Identifier) assign.getVariable();
+            return varId.getSimpleName();
+        }
+        return null;
     }
 
     @RequiredArgsConstructor
-    private static class TransferArgumentsVisitor extends JavaIsoVisitor<ExecutionContext> {
+    private static class TransferArgumentsVisitor extends DeclarationHeaderVisitor<ExecutionContext> {
 
-        private final Map<J.Annotation, Expression> fasterXmlToUsingExpression;
-        private final String argumentName;
+        private final Map<J.Annotation, List<Expression>> fasterXmlToArguments;
 
         @Override
         public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
-            Expression e = fasterXmlToUsingExpression.get(annotation);
-            if (e != null) {
-                List<Expression> arguments = annotation.getArguments();
-                if (arguments == null || arguments.isEmpty() || arguments.get(0) instanceof J.Empty) {
-                    return annotation.withArguments(Collections.singletonList(e.withPrefix(Space.EMPTY)));
+            J.Annotation a = super.visitAnnotation(annotation, ctx);
+            List<Expression> toTransfer = fasterXmlToArguments.get(a);
+            if (toTransfer != null) {
+                for (Expression e : toTransfer) {
+                    a = transferArgument(a, e);
                 }
+            }
+            return a;
+        }
 
-                boolean notAlreadyUsing = arguments.stream().noneMatch(arg -> {
-                    if (arg instanceof J.Assignment) {
-                        J.Assignment assign = (J.Assignment) arg;
-                        J.Identifier varId = (J.Identifier) assign.getVariable();
-                        return argumentName.equals(varId.getSimpleName());
-                    }
-                    return false;
-                });
-                if (notAlreadyUsing) {
-                    arguments.add(e);
-                    return annotation.withArguments(arguments);
-                }
+        private static J.Annotation transferArgument(J.Annotation annotation, Expression e) {
+            List<Expression> arguments = annotation.getArguments();
+            if (arguments == null || arguments.isEmpty() || arguments.get(0) instanceof J.Empty) {
+                return annotation.withArguments(Collections.singletonList(e.withPrefix(Space.EMPTY)));
+            }
+
+            String argumentName = argumentName(e);
+            Optional<Expression> alreadySet = arguments.stream().filter(arg -> argumentName != null && argumentName.equals(argumentName(arg))).findFirst();
+            if (!alreadySet.isPresent()) {
+                arguments.add(e);
+                return annotation.withArguments(arguments);
+            }
+            String typing = argumentValue(e);
+            if ("typing".equals(argumentName) && typing != null && !typing.equals(argumentValue(alreadySet.get()))) {
+                return SearchResult.found(annotation, "Codehaus typing = " + typing + " is not transferred, as typing is set already");
             }
             return annotation;
         }
+
+        private static @Nullable String argumentValue(Expression arg) {
+            Expression value = ((J.Assignment) arg).getAssignment();
+            if (value instanceof J.FieldAccess) {
+                return ((J.FieldAccess) value).getSimpleName();
+            }
+            return value instanceof J.Identifier ? ((J.Identifier) value).getSimpleName() : null;
+        }
     }
 }
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class CacheObjectReadersAndWritersTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new CacheObjectReadersAndWriters())
+          .parser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()));
+    }
+
+    @DocumentExample
+    @Test
+    void cacheReaderAndWriter() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Handler {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  Foo read(String json) throws Exception {
+                      return MAPPER.readerFor(Foo.class).with(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES).readValue(json);
+                  }
+
+                  String write(Foo foo) throws Exception {
+                      return MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(foo);
+                  }
+
+                  static class Foo {
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.ObjectReader;
+              import com.fasterxml.jackson.databind.ObjectWriter;
+
+              class Handler {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+                  private static final ObjectReader FOO_READER = MAPPER.readerFor(Foo.class).with(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES);
+                  private static final ObjectWriter PRETTY_PRINTER_WRITER = MAPPER.writerWithDefaultPrettyPrinter();
+
+                  Foo read(String json) throws Exception {
+                      return FOO_READER.readValue(json);
+                  }
+
+                  String write(Foo foo) throws Exception {
+                      return PRETTY_PRINTER_WRITER.writeValueAsString(foo);
+                  }
+
+                  static class Foo {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reuseCachedWriter() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.ObjectWriter;
+
+              class Handler {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+                  private static final ObjectWriter WRITER = MAPPER.writerFor(String.class);
+
+                  String write(String value) throws Exception {
+                      return MAPPER.writerFor(String.class).writeValueAsString(value);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.ObjectWriter;
+
+              class Handler {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+                  private static final ObjectWriter WRITER = MAPPER.writerFor(String.class);
+
+                  String write(String value) throws Exception {
+                      return WRITER.writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportChainWithArgument() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Handler {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  Object read(String json, Class<?> type) throws Exception {
+                      return MAPPER.readerFor(type).readValue(json);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Handler {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  Object read(String json, Class<?> type) throws Exception {
+                      return /*~~(Not cached, as the arguments are not constant)~~>*/MAPPER.readerFor(type).readValue(json);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportReconfiguredMapper() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Handler {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  static {
+                      MAPPER.enable(SerializationFeature.INDENT_OUTPUT);
+                  }
+
+                  String write(Object value) throws Exception {
+                      return MAPPER.writer().writeValueAsString(value);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Handler {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  static {
+                      MAPPER.enable(SerializationFeature.INDENT_OUTPUT);
+                  }
+
+                  String write(Object value) throws Exception {
+                      return /*~~(Not cached, as the mapper is reconfigured after it is created)~~>*/MAPPER.writer().writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportMapperAssignedInStaticInitializer() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Handler {
+                  private static final ObjectMapper MAPPER;
+
+                  static {
+                      MAPPER = createMapper();
+                  }
+
+                  private static ObjectMapper createMapper() {
+                      return new ObjectMapper();
+                  }
+
+                  String write(Object value) throws Exception {
+                      return MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(value);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Handler {
+                  private static final ObjectMapper MAPPER;
+
+                  static {
+                      MAPPER = createMapper();
+                  }
+
+                  private static ObjectMapper createMapper() {
+                      return new ObjectMapper();
+                  }
+
+                  String write(Object value) throws Exception {
+                      return /*~~(Not cached, as the mapper is assigned in a static initializer)~~>*/MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class CloseJsonParsersWithTryWithResourcesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new CloseJsonParsersWithTryWithResources())
+          .parser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()));
+    }
+
+    @DocumentExample
+    @Test
+    void closeParserWithTryWithResources() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonFactory;
+              import com.fasterxml.jackson.core.JsonParser;
+
+              class Test {
+                  int countTokens(JsonFactory factory, String json) throws Exception {
+                      int count = 0;
+                      JsonParser parser = factory.createParser(json);
+                      while (parser.nextToken() != null) {
+                          count++;
+                      }
+                      parser.close();
+                      return count;
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonFactory;
+              import com.fasterxml.jackson.core.JsonParser;
+
+              class Test {
+                  int countTokens(JsonFactory factory, String json) throws Exception {
+                      int count = 0;
+                      try (JsonParser parser = factory.createParser(json)) {
+                          while (parser.nextToken() != null) {
+                              count++;
+                          }
+                      }
+                      return count;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepParserThatIsNotClosed() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonFactory;
+              import com.fasterxml.jackson.core.JsonParser;
+
+              import java.io.InputStream;
+
+              class Test {
+                  String firstName(JsonFactory factory, InputStream in) throws Exception {
+                      JsonParser parser = factory.createParser(in);
+                      parser.nextToken();
+                      return parser.getCurrentName();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenVariableIsUsedAfterClose() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonFactory;
+              import com.fasterxml.jackson.core.JsonGenerator;
+
+              import java.io.StringWriter;
+
+              class Test {
+                  String write(JsonFactory factory) throws Exception {
+                      StringWriter writer = new StringWriter();
+                      JsonGenerator generator = factory.createGenerator(writer);
+                      String name = "value";
+                      generator.writeString(name);
+                      generator.close();
+                      return name + writer;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class CollapseJsonTreeRoundTripsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new CollapseJsonTreeRoundTrips())
+          .parser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()));
+    }
+
+    @DocumentExample
+    @Test
+    void readTreeThenTreeToValue() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  Foo read(ObjectMapper mapper, String json) throws Exception {
+                      JsonNode node = mapper.readTree(json);
+                      Foo foo = mapper.treeToValue(node, Foo.class);
+                      return foo;
+                  }
+
+                  static class Foo {
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  Foo read(ObjectMapper mapper, String json) throws Exception {
+                      Foo foo = mapper.readValue(json, Foo.class);
+                      return foo;
+                  }
+
+                  static class Foo {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void valueToTreeThenWrite() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  String write(Object value) throws Exception {
+                      return MAPPER.writeValueAsString(MAPPER.valueToTree(value));
+                  }
+
+                  byte[] writeBytes(Object value) throws Exception {
+                      ObjectMapper mapper = new ObjectMapper();
+                      return mapper.writeValueAsBytes(mapper.valueToTree(value));
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  String write(Object value) throws Exception {
+                      return MAPPER.writeValueAsString(value);
+                  }
+
+                  byte[] writeBytes(Object value) throws Exception {
+                      ObjectMapper mapper = new ObjectMapper();
+                      return mapper.writeValueAsBytes(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepTreeUsedElsewhere() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  Object read(ObjectMapper mapper, String json) throws Exception {
+                      JsonNode node = mapper.readTree(json);
+                      if (node.has("type")) {
+                          return mapper.treeToValue(node, String.class);
+                      }
+                      return mapper.treeToValue(node, Integer.class);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepDifferentMappers() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  String read(ObjectMapper lenient, ObjectMapper strict, String json) throws Exception {
+                      return strict.treeToValue(lenient.readTree(json), String.class);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWriteWhenRootValueIsWrapped() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.WRAP_ROOT_VALUE);
+
+                  String write(Object value) throws Exception {
+                      return MAPPER.writeValueAsString(MAPPER.valueToTree(value));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWriteOnMapperConfiguredElsewhere() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  private final ObjectMapper mapper;
+
+                  Test(ObjectMapper mapper) {
+                      this.mapper = mapper;
+                  }
+
+                  String write(Object value) throws Exception {
+                      return mapper.writeValueAsString(mapper.valueToTree(value));
+                  }
+
+                  String write(ObjectMapper injected, Object value) throws Exception {
+                      return injected.writeValueAsString(injected.valueToTree(value));
+                  }
+              }
+              """
+          )
+        );
+    }
+}
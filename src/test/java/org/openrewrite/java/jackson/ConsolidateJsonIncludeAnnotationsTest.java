@@ -0,0 +1,251 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class ConsolidateJsonIncludeAnnotationsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new ConsolidateJsonIncludeAnnotations(null))
+          .parser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()));
+    }
+
+    @DocumentExample
+    @Test
+    void consolidateIntoClassAnnotation() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.annotation.JsonInclude;
+
+              class Person {
+                  @JsonInclude(value = JsonInclude.Include.NON_NULL)
+                  public String name;
+                  @JsonInclude(value = JsonInclude.Include.NON_NULL)
+                  public String email;
+                  @JsonInclude(value = JsonInclude.Include.NON_NULL)
+                  public Integer age;
+              }
+              """,
+            """
+              import com.fasterxml.jackson.annotation.JsonInclude;
+
+              @JsonInclude(value = JsonInclude.Include.NON_NULL)
+              class Person {
+                  public String name;
+                  public String email;
+                  public Integer age;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepDifferingOverrides() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.annotation.JsonInclude;
+
+              import java.util.List;
+
+              class Person {
+                  @JsonInclude(JsonInclude.Include.NON_NULL)
+                  public String name;
+                  @JsonInclude(JsonInclude.Include.NON_NULL)
+                  public String email;
+                  @JsonInclude(JsonInclude.Include.NON_EMPTY)
+                  public List<String> tags;
+              }
+              """,
+            """
+              import com.fasterxml.jackson.annotation.JsonInclude;
+
+              import java.util.List;
+
+              @JsonInclude(value = JsonInclude.Include.NON_NULL)
+              class Person {
+                  public String name;
+                  public String email;
+                  @JsonInclude(JsonInclude.Include.NON_EMPTY)
+                  public List<String> tags;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void removeAnnotationsMatchingTheClass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.annotation.JsonInclude;
+
+              @JsonInclude(JsonInclude.Include.NON_NULL)
+              class Person {
+                  private String name;
+
+                  @JsonInclude(JsonInclude.Include.NON_NULL)
+                  public String getName() {
+                      return name;
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.annotation.JsonInclude;
+
+              @JsonInclude(JsonInclude.Include.NON_NULL)
+              class Person {
+                  private String name;
+
+                  public String getName() {
+                      return name;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenPropertiesAreNotAnnotated() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.annotation.JsonInclude;
+
+              class Person {
+                  @JsonInclude(JsonInclude.Include.NON_NULL)
+                  public String name;
+                  @JsonInclude(JsonInclude.Include.NON_NULL)
+                  public String email;
+                  public Integer age;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenPropertiesAreDetectedByAnnotations() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.annotation.JsonInclude;
+              import com.fasterxml.jackson.annotation.JsonProperty;
+
+              class Person {
+                  @JsonInclude(JsonInclude.Include.NON_NULL)
+                  public String name;
+                  @JsonInclude(JsonInclude.Include.NON_NULL)
+                  public String email;
+                  @JsonProperty
+                  private Integer age;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenClassIsExtended() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.annotation.JsonInclude;
+
+              class Person {
+                  @JsonInclude(value = JsonInclude.Include.NON_NULL)
+                  public String name;
+                  @JsonInclude(value = JsonInclude.Include.NON_NULL)
+                  public String email;
+                  @JsonInclude(value = JsonInclude.Include.NON_NULL)
+                  public Integer age;
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              class Employee extends Person {
+                  public String department;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void moveToMapperDefault() {
+        rewriteRun(
+          spec -> spec.recipe(new ConsolidateJsonIncludeAnnotations(true)),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.annotation.JsonInclude;
+
+              class Person {
+                  @JsonInclude(JsonInclude.Include.NON_NULL)
+                  public String name;
+                  @JsonInclude(JsonInclude.Include.NON_NULL)
+                  public String email;
+              }
+              """,
+            """
+              class Person {
+                  public String name;
+                  public String email;
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Mappers {
+                  static final ObjectMapper MAPPER = new ObjectMapper();
+              }
+              """,
+            """
+              import com.fasterxml.jackson.annotation.JsonInclude;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Mappers {
+                  static final ObjectMapper MAPPER = new ObjectMapper().setDefaultPropertyInclusion(JsonInclude.Include.NON_NULL);
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class GuardJsonSerializationInLogStatementsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new GuardJsonSerializationInLogStatements())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath(JavaParser.runtimeClasspath())
+            //language=java
+            .dependsOn(
+              """
+                package org.slf4j;
+                public interface Logger {
+                    boolean isDebugEnabled();
+                    boolean isTraceEnabled();
+                    void trace(String format, Object arg);
+                    void debug(String format, Object arg);
+                    void info(String format, Object arg);
+                }
+                """,
+              """
+                package org.slf4j;
+                public class LoggerFactory {
+                    public static Logger getLogger(Class<?> clazz) {
+                        return null;
+                    }
+                }
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void guardSlf4jDebug() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonProcessingException;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import org.slf4j.Logger;
+              import org.slf4j.LoggerFactory;
+
+              class OrderService {
+                  private static final Logger log = LoggerFactory.getLogger(OrderService.class);
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  void place(Object order) throws JsonProcessingException {
+                      log.debug("Placing order {}", MAPPER.writeValueAsString(order));
+                      log.info("Placed order {}", MAPPER.writeValueAsString(order));
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonProcessingException;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import org.slf4j.Logger;
+              import org.slf4j.LoggerFactory;
+
+              class OrderService {
+                  private static final Logger log = LoggerFactory.getLogger(OrderService.class);
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  void place(Object order) throws JsonProcessingException {
+                      if (log.isDebugEnabled()) {
+                          log.debug("Placing order {}", MAPPER.writeValueAsString(order));
+                      }
+                      log.info("Placed order {}", MAPPER.writeValueAsString(order));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void guardJulFine() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonProcessingException;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.logging.Logger;
+
+              class OrderService {
+                  private static final Logger LOGGER = Logger.getLogger("orders");
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  void place(Object order) throws JsonProcessingException {
+                      LOGGER.fine("Placing order " + MAPPER.writeValueAsString(order));
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonProcessingException;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.logging.Level;
+              import java.util.logging.Logger;
+
+              class OrderService {
+                  private static final Logger LOGGER = Logger.getLogger("orders");
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  void place(Object order) throws JsonProcessingException {
+                      if (LOGGER.isLoggable(Level.FINE)) {
+                          LOGGER.fine("Placing order " + MAPPER.writeValueAsString(order));
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepGuardedStatements() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonProcessingException;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import org.slf4j.Logger;
+              import org.slf4j.LoggerFactory;
+
+              class OrderService {
+                  private static final Logger log = LoggerFactory.getLogger(OrderService.class);
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  void place(Object order) throws JsonProcessingException {
+                      if (log.isTraceEnabled()) {
+                          log.trace("Placing order {}", MAPPER.writeValueAsString(order));
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void guardElseBranchAndOtherChecks() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonProcessingException;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import org.slf4j.Logger;
+              import org.slf4j.LoggerFactory;
+
+              class OrderService {
+                  private static final Logger log = LoggerFactory.getLogger(OrderService.class);
+                  private static final Logger audit = LoggerFactory.getLogger("audit");
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  void place(Object order) throws JsonProcessingException {
+                      if (log.isTraceEnabled()) {
+                          log.trace("Placing order {}", order);
+                      } else {
+                          log.debug("Placing order {}", MAPPER.writeValueAsString(order));
+                      }
+                      if (audit.isDebugEnabled()) {
+                          log.debug("Audited order {}", MAPPER.writeValueAsString(order));
+                      }
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonProcessingException;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import org.slf4j.Logger;
+              import org.slf4j.LoggerFactory;
+
+              class OrderService {
+                  private static final Logger log = LoggerFactory.getLogger(OrderService.class);
+                  private static final Logger audit = LoggerFactory.getLogger("audit");
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  void place(Object order) throws JsonProcessingException {
+                      if (log.isTraceEnabled()) {
+                          log.trace("Placing order {}", order);
+                      } else {
+                          if (log.isDebugEnabled()) {
+                              log.debug("Placing order {}", MAPPER.writeValueAsString(order));
+                          }
+                      }
+                      if (audit.isDebugEnabled()) {
+                          if (log.isDebugEnabled()) {
+                              log.debug("Audited order {}", MAPPER.writeValueAsString(order));
+                          }
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+}
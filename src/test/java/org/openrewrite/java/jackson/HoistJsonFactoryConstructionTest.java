@@ -0,0 +1,167 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class HoistJsonFactoryConstructionTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new HoistJsonFactoryConstruction())
+          .parser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()));
+    }
+
+    @DocumentExample
+    @Test
+    void hoistInlineFactory() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonFactory;
+              import com.fasterxml.jackson.core.JsonParser;
+
+              class Test {
+                  JsonParser parse(String json) throws Exception {
+                      return new JsonFactory().createParser(json);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonFactory;
+              import com.fasterxml.jackson.core.JsonParser;
+
+              class Test {
+                  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+                  JsonParser parse(String json) throws Exception {
+                      return JSON_FACTORY.createParser(json);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void hoistLocalFactoryAndReuseExistingField() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonFactory;
+              import com.fasterxml.jackson.core.JsonGenerator;
+
+              import java.io.Writer;
+
+              class Test {
+                  private static final JsonFactory FACTORY = new JsonFactory();
+
+                  JsonGenerator generator(Writer writer) throws Exception {
+                      JsonFactory factory = new JsonFactory();
+                      return factory.createGenerator(writer);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonFactory;
+              import com.fasterxml.jackson.core.JsonGenerator;
+
+              import java.io.Writer;
+
+              class Test {
+                  private static final JsonFactory FACTORY = new JsonFactory();
+
+                  JsonGenerator generator(Writer writer) throws Exception {
+                      return FACTORY.createGenerator(writer);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepConfiguredFactory() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonFactory;
+              import com.fasterxml.jackson.core.JsonParser;
+
+              class Test {
+                  JsonParser parse(String json) throws Exception {
+                      JsonFactory factory = new JsonFactory();
+                      factory.enable(JsonParser.Feature.ALLOW_COMMENTS);
+                      return factory.createParser(json);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void doNotReuseReconfiguredFactory() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonFactory;
+              import com.fasterxml.jackson.core.JsonParser;
+
+              class Test {
+                  private static final JsonFactory LENIENT = new JsonFactory();
+
+                  static {
+                      LENIENT.enable(JsonParser.Feature.ALLOW_COMMENTS);
+                  }
+
+                  JsonParser parse(String json) throws Exception {
+                      return new JsonFactory().createParser(json);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonFactory;
+              import com.fasterxml.jackson.core.JsonParser;
+
+              class Test {
+                  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+                  private static final JsonFactory LENIENT = new JsonFactory();
+
+                  static {
+                      LENIENT.enable(JsonParser.Feature.ALLOW_COMMENTS);
+                  }
+
+                  JsonParser parse(String json) throws Exception {
+                      return JSON_FACTORY.createParser(json);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
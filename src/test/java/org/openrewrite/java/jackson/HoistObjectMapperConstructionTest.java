@@ -0,0 +1,256 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class HoistObjectMapperConstructionTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new HoistObjectMapperConstruction())
+          .parser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()));
+    }
+
+    @DocumentExample
+    @Test
+    void hoistConfiguredMapper() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Handler {
+                  Object handle(String body) throws Exception {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+                      return mapper.readValue(body, Object.class);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.json.JsonMapper;
+
+              class Handler {
+                  private static final ObjectMapper MAPPER = JsonMapper.builder().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false).build();
+
+                  Object handle(String body) throws Exception {
+                      return MAPPER.readValue(body, Object.class);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void hoistInlineMapper() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Handler {
+                  String handle(Object value) throws Exception {
+                      return new ObjectMapper().writeValueAsString(value);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Handler {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  String handle(Object value) throws Exception {
+                      return MAPPER.writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reuseExistingSharedMapper() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+              import com.fasterxml.jackson.databind.json.JsonMapper;
+
+              class Handler {
+                  private static final ObjectMapper JSON = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+
+                  String handle(Object value) throws Exception {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.enable(SerializationFeature.INDENT_OUTPUT);
+                      return mapper.writeValueAsString(value);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+              import com.fasterxml.jackson.databind.json.JsonMapper;
+
+              class Handler {
+                  private static final ObjectMapper JSON = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+
+                  String handle(Object value) throws Exception {
+                      return JSON.writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void doNotReuseReconfiguredSharedMapper() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Handler {
+                  private static final ObjectMapper JSON = new ObjectMapper();
+
+                  static {
+                      JSON.enable(SerializationFeature.INDENT_OUTPUT);
+                  }
+
+                  String handle(Object value) throws Exception {
+                      return new ObjectMapper().writeValueAsString(value);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Handler {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+                  private static final ObjectMapper JSON = new ObjectMapper();
+
+                  static {
+                      JSON.enable(SerializationFeature.INDENT_OUTPUT);
+                  }
+
+                  String handle(Object value) throws Exception {
+                      return MAPPER.writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void sameConfigurationSharesOneField() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Handler {
+                  String write(Object value) throws Exception {
+                      return new ObjectMapper().writeValueAsString(value);
+                  }
+
+                  Object read(String body) throws Exception {
+                      ObjectMapper mapper = new ObjectMapper();
+                      return mapper.readTree(body);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Handler {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  String write(Object value) throws Exception {
+                      return MAPPER.writeValueAsString(value);
+                  }
+
+                  Object read(String body) throws Exception {
+                      return MAPPER.readTree(body);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepMapperConfiguredWithArgument() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Handler {
+                  String handle(Object value, boolean pretty) throws Exception {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.configure(SerializationFeature.INDENT_OUTPUT, pretty);
+                      return mapper.writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepMapperThatEscapes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Handler {
+                  ObjectMapper create() {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.findAndRegisterModules();
+                      return mapper;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class HoistTypeReferencesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new HoistTypeReferences())
+          .parser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()));
+    }
+
+    @DocumentExample
+    @Test
+    void hoistTypeReference() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.type.TypeReference;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.List;
+
+              class Test {
+                  List<String> read(ObjectMapper mapper, String json) throws Exception {
+                      return mapper.readValue(json, new TypeReference<List<String>>() {});
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.type.TypeReference;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.List;
+
+              class Test {
+                  private static final TypeReference<List<String>> LIST_OF_STRING_TYPE = new TypeReference<List<String>>() {};
+
+                  List<String> read(ObjectMapper mapper, String json) throws Exception {
+                      return mapper.readValue(json, LIST_OF_STRING_TYPE);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void hoistConstructedCollectionType() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.List;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  List<String> read(String json) throws Exception {
+                      return MAPPER.readValue(json, MAPPER.getTypeFactory().constructCollectionType(List.class, String.class));
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.type.CollectionType;
+
+              import java.util.List;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+                  private static final CollectionType LIST_OF_STRING_TYPE = MAPPER.getTypeFactory().constructCollectionType(List.class, String.class);
+
+                  List<String> read(String json) throws Exception {
+                      return MAPPER.readValue(json, LIST_OF_STRING_TYPE);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void hoistCodehausTypeReference() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.codehaus.jackson.map.ObjectMapper;
+              import org.codehaus.jackson.type.TypeReference;
+
+              import java.util.Map;
+
+              class Test {
+                  Map<String, Integer> read(ObjectMapper mapper, String json) throws Exception {
+                      return mapper.readValue(json, new TypeReference<Map<String, Integer>>() {});
+                  }
+              }
+              """,
+            """
+              import org.codehaus.jackson.map.ObjectMapper;
+              import org.codehaus.jackson.type.TypeReference;
+
+              import java.util.Map;
+
+              class Test {
+                  private static final TypeReference<Map<String, Integer>> MAP_OF_STRING_AND_INTEGER_TYPE = new TypeReference<Map<String, Integer>>() {};
+
+                  Map<String, Integer> read(ObjectMapper mapper, String json) throws Exception {
+                      return mapper.readValue(json, MAP_OF_STRING_AND_INTEGER_TYPE);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepTypeVariablesAndDiamonds() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.type.TypeReference;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.List;
+
+              class Test {
+                  <T> List<T> read(ObjectMapper mapper, String json) throws Exception {
+                      return mapper.readValue(json, new TypeReference<List<T>>() {});
+                  }
+
+                  List<String> readStrings(ObjectMapper mapper, String json) throws Exception {
+                      return mapper.readValue(json, new TypeReference<>() {});
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepTypeFromMapperAssignedInStaticInitializer() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.List;
+
+              class Test {
+                  private static final ObjectMapper MAPPER;
+
+                  static {
+                      MAPPER = new ObjectMapper();
+                  }
+
+                  List<String> read(String json) throws Exception {
+                      return MAPPER.readValue(json, MAPPER.getTypeFactory().constructCollectionType(List.class, String.class));
+                  }
+              }
+              """
+          )
+        );
+    }
+}
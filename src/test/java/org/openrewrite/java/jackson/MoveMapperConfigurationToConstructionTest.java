@@ -0,0 +1,210 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class MoveMapperConfigurationToConstructionTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new MoveMapperConfigurationToConstruction())
+          .parser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()));
+    }
+
+    @DocumentExample
+    @Test
+    void moveConstantConfigurationIntoBuilder() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  Object read(String json) throws Exception {
+                      MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+                      return MAPPER.readValue(json, Object.class);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.json.JsonMapper;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = JsonMapper.builder().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false).build();
+
+                  Object read(String json) throws Exception {
+                      return MAPPER.readValue(json, Object.class);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void toggledFeatureBecomesWriterView() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Test {
+                  private final ObjectMapper mapper = new ObjectMapper();
+
+                  String pretty(Object value) throws Exception {
+                      mapper.enable(SerializationFeature.INDENT_OUTPUT);
+                      String json = mapper.writeValueAsString(value);
+                      mapper.disable(SerializationFeature.INDENT_OUTPUT);
+                      return json;
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Test {
+                  private final ObjectMapper mapper = new ObjectMapper();
+
+                  String pretty(Object value) throws Exception {
+                      String json = mapper.writer().with(SerializationFeature.INDENT_OUTPUT).writeValueAsString(value);
+                      return json;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void markConflictingConfiguration() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  void lenient() {
+                      MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+                  }
+
+                  void strict() {
+                      MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  void lenient() {
+                      /*~~(Not moved into construction, as the mapper is configured differently elsewhere)~~>*/MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+                  }
+
+                  void strict() {
+                      /*~~(Not moved into construction, as the mapper is configured differently elsewhere)~~>*/MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepConfigurationInConstructor() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Test {
+                  private final ObjectMapper mapper = new ObjectMapper();
+
+                  Test() {
+                      mapper.enable(SerializationFeature.INDENT_OUTPUT);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void markConfigurationWithoutUse() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  void enablePrettyPrint() {
+                      MAPPER.enable(SerializationFeature.INDENT_OUTPUT);
+                  }
+
+                  String write(Object value) throws Exception {
+                      return MAPPER.writeValueAsString(value);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  void enablePrettyPrint() {
+                      /*~~(Not moved into construction, as the mapper is not used after it is configured in this method)~~>*/MAPPER.enable(SerializationFeature.INDENT_OUTPUT);
+                  }
+
+                  String write(Object value) throws Exception {
+                      return MAPPER.writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
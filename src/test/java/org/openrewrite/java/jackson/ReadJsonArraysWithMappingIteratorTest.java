@@ -0,0 +1,137 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class ReadJsonArraysWithMappingIteratorTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new ReadJsonArraysWithMappingIterator())
+          .parser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()));
+    }
+
+    @DocumentExample
+    @Test
+    void streamArrayReadFromFile() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.type.TypeReference;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.io.File;
+              import java.util.List;
+
+              class Test {
+                  static class Order {
+                  }
+
+                  int count(ObjectMapper mapper, File file) throws Exception {
+                      int count = 0;
+                      List<Order> orders = mapper.readValue(file, new TypeReference<List<Order>>() {});
+                      for (Order order : orders) {
+                          count++;
+                      }
+                      return count;
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.MappingIterator;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.io.File;
+
+              class Test {
+                  static class Order {
+                  }
+
+                  int count(ObjectMapper mapper, File file) throws Exception {
+                      int count = 0;
+                      try (MappingIterator<Order> iterator = mapper.readerFor(Order.class).readValues(file)) {
+                          while (iterator.hasNextValue()) {
+                              Order order = iterator.nextValue();
+                              count++;
+                          }
+                      }
+                      return count;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenListIsUsedAfterTheLoop() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.type.TypeReference;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.io.InputStream;
+              import java.util.List;
+
+              class Test {
+                  int count(ObjectMapper mapper, InputStream in) throws Exception {
+                      List<String> names = mapper.readValue(in, new TypeReference<List<String>>() {});
+                      for (String name : names) {
+                          System.out.println(name);
+                      }
+                      return names.size();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepStringSources() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.type.TypeReference;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.List;
+
+              class Test {
+                  void print(ObjectMapper mapper, String json) throws Exception {
+                      List<String> names = mapper.readValue(json, new TypeReference<List<String>>() {});
+                      for (String name : names) {
+                          System.out.println(name);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.*;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class RegisterBytecodePropertyAccessModuleTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new RegisterBytecodePropertyAccessModule(null, null))
+          .parser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()));
+    }
+
+    @DocumentExample
+    @Test
+    void registerBlackbird() {
+        rewriteRun(
+          version(
+            //language=java
+            java(
+              """
+                import com.fasterxml.jackson.databind.ObjectMapper;
+                import com.fasterxml.jackson.databind.SerializationFeature;
+                import com.fasterxml.jackson.databind.json.JsonMapper;
+
+                class Mappers {
+                    static final ObjectMapper MAPPER = new ObjectMapper();
+                    static final ObjectMapper PRETTY = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+                }
+                """,
+              """
+                import com.fasterxml.jackson.databind.ObjectMapper;
+                import com.fasterxml.jackson.databind.SerializationFeature;
+                import com.fasterxml.jackson.databind.json.JsonMapper;
+                import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+                class Mappers {
+                    static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new BlackbirdModule());
+                    static final ObjectMapper PRETTY = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).addModule(new BlackbirdModule()).build();
+                }
+                """
+            ),
+            17
+          )
+        );
+    }
+
+    @Test
+    void registerAfterburnerBeforeJava11() {
+        rewriteRun(
+          version(
+            //language=java
+            java(
+              """
+                import com.fasterxml.jackson.databind.ObjectMapper;
+
+                class Mappers {
+                    private static final ObjectMapper MAPPER = new ObjectMapper();
+                }
+                """,
+              """
+                import com.fasterxml.jackson.databind.ObjectMapper;
+                import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+
+                class Mappers {
+                    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new AfterburnerModule());
+                }
+                """
+            ),
+            8
+          )
+        );
+    }
+
+    @Test
+    void skipBlackbirdBeforeJava11() {
+        rewriteRun(
+          spec -> spec.recipe(new RegisterBytecodePropertyAccessModule("Blackbird", null)),
+          version(
+            //language=java
+            java(
+              """
+                import com.fasterxml.jackson.databind.ObjectMapper;
+
+                class Mappers {
+                    private static final ObjectMapper MAPPER = new ObjectMapper();
+                }
+                """
+            ),
+            8
+          )
+        );
+    }
+
+    @Test
+    void skipLocalAndRegisteredMappers() {
+        rewriteRun(
+          spec -> spec.parser(JavaParser.fromJavaVersion()
+            .classpath(JavaParser.runtimeClasspath())
+            //language=java
+            .dependsOn(
+              """
+                package com.fasterxml.jackson.module.blackbird;
+                public class BlackbirdModule extends com.fasterxml.jackson.databind.module.SimpleModule {
+                }
+                """
+            )),
+          version(
+            //language=java
+            java(
+              """
+                import com.fasterxml.jackson.databind.ObjectMapper;
+                import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+                class Mappers {
+                    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new BlackbirdModule());
+                    private static final ObjectMapper OTHER = new ObjectMapper();
+
+                    ObjectMapper create() {
+                        ObjectMapper mapper = new ObjectMapper();
+                        return mapper;
+                    }
+                }
+                """
+            ),
+            17
+          ),
+          version(
+            //language=java
+            java(
+              """
+                import com.fasterxml.jackson.databind.ObjectMapper;
+
+                class Discovered {
+                    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                    static {
+                        MAPPER.findAndRegisterModules();
+                    }
+                }
+                """
+            ),
+            17
+          )
+        );
+    }
+
+    @Test
+    void addModuleDependency() {
+        rewriteRun(
+          spec -> spec.cycles(2).expectedCyclesThatMakeChanges(2),
+          mavenProject("app",
+            srcMainJava(
+              version(
+                //language=java
+                java(
+                  """
+                    import com.fasterxml.jackson.databind.ObjectMapper;
+
+                    class Mappers {
+                        static final ObjectMapper MAPPER = new ObjectMapper();
+                    }
+                    """,
+                  """
+                    import com.fasterxml.jackson.databind.ObjectMapper;
+                    import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+                    class Mappers {
+                        static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new BlackbirdModule());
+                    }
+                    """
+                ),
+                17
+              )
+            ),
+            //language=xml
+            pomXml(
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.mycompany.app</groupId>
+                    <artifactId>my-app</artifactId>
+                    <version>1</version>
+                    <dependencies>
+                        <dependency>
+                            <groupId>com.fasterxml.jackson.core</groupId>
+                            <artifactId>jackson-databind</artifactId>
+                            <version>2.16.1</version>
+                        </dependency>
+                    </dependencies>
+                </project>
+                """,
+              spec -> spec.after(pom -> {
+                  Matcher version = Pattern.compile("<artifactId>jackson-module-blackbird</artifactId>\\s*<version>(2\\.[\\d.]+)</version>").matcher(pom);
+                  assertThat(version.find()).describedAs("Expected jackson-module-blackbird to be added").isTrue();
+                  assertThat(pom).doesNotContain("jackson-module-afterburner");
+                  //language=xml
+                  return """
+                    <project>
+                        <modelVersion>4.0.0</modelVersion>
+                        <groupId>com.mycompany.app</groupId>
+                        <artifactId>my-app</artifactId>
+                        <version>1</version>
+                        <dependencies>
+                            <dependency>
+                                <groupId>com.fasterxml.jackson.core</groupId>
+                                <artifactId>jackson-databind</artifactId>
+                                <version>2.16.1</version>
+                            </dependency>
+                            <dependency>
+                                <groupId>com.fasterxml.jackson.module</groupId>
+                                <artifactId>jackson-module-blackbird</artifactId>
+                                <version>%s</version>
+                            </dependency>
+                        </dependencies>
+                    </project>
+                    """.formatted(version.group(1));
+              })
+            )
+          )
+        );
+    }
+
+    @Test
+    void noModuleDependencyWithoutSharedMapper() {
+        rewriteRun(
+          mavenProject("app",
+            srcMainJava(
+              version(
+                //language=java
+                java(
+                  """
+                    import com.fasterxml.jackson.databind.ObjectMapper;
+
+                    class Mappers {
+                        ObjectMapper create() {
+                            return new ObjectMapper();
+                        }
+                    }
+                    """
+                ),
+                17
+              )
+            ),
+            //language=xml
+            pomXml(
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.mycompany.app</groupId>
+                    <artifactId>my-app</artifactId>
+                    <version>1</version>
+                    <dependencies>
+                        <dependency>
+                            <groupId>com.fasterxml.jackson.core</groupId>
+                            <artifactId>jackson-databind</artifactId>
+                            <version>2.16.1</version>
+                        </dependency>
+                    </dependencies>
+                </project>
+                """
+            )
+          )
+        );
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class RegisterSerializersOnSharedMappersTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new RegisterSerializersOnSharedMappers(null))
+          .parser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()));
+    }
+
+    //language=java
+    private static final String MONEY = """
+      import java.math.BigDecimal;
+
+      public class Money {
+          public BigDecimal amount;
+      }
+      """;
+
+    //language=java
+    private static final String MONEY_SERIALIZER = """
+      import com.fasterxml.jackson.core.JsonGenerator;
+      import com.fasterxml.jackson.databind.SerializerProvider;
+      import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+      import java.io.IOException;
+
+      public class MoneySerializer extends StdSerializer<Money> {
+          public MoneySerializer() {
+              super(Money.class);
+          }
+
+          @Override
+          public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+              gen.writeString(value.amount.toPlainString());
+          }
+      }
+      """;
+
+    @DocumentExample
+    @Test
+    void registerOnSharedMapper() {
+        rewriteRun(
+          spec -> spec.recipe(new RegisterSerializersOnSharedMappers(true)),
+          java(MONEY),
+          java(MONEY_SERIALIZER),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+              class Invoice {
+                  @JsonSerialize(using = MoneySerializer.class)
+                  public Money total;
+
+                  @JsonSerialize(using = MoneySerializer.class)
+                  public Money tax;
+              }
+              """,
+            """
+              class Invoice {
+                  public Money total;
+
+                  public Money tax;
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Json {
+                  static final ObjectMapper MAPPER = new ObjectMapper();
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.module.SimpleModule;
+
+              class Json {
+                  static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new SimpleModule().addSerializer(Money.class, new MoneySerializer()));
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void markCandidates() {
+        rewriteRun(
+          java(MONEY),
+          java(MONEY_SERIALIZER),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+              import java.util.List;
+
+              class Invoice {
+                  @JsonSerialize(using = MoneySerializer.class)
+                  public Money total;
+
+                  @JsonSerialize(contentUsing = MoneySerializer.class)
+                  public List<Money> lines;
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+              import java.util.List;
+
+              class Invoice {
+                  /*~~(`MoneySerializer` can be registered once on the shared mappers)~~>*/@JsonSerialize(using = MoneySerializer.class)
+                  public Money total;
+
+                  /*~~(`MoneySerializer` can be registered once on the shared mappers)~~>*/@JsonSerialize(contentUsing = MoneySerializer.class)
+                  public List<Money> lines;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenTypeIsAlsoSerializedWithoutSerializer() {
+        rewriteRun(
+          java(MONEY),
+          java(MONEY_SERIALIZER),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+              class Invoice {
+                  @JsonSerialize(using = MoneySerializer.class)
+                  public Money total;
+
+                  public Money tax;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepStatefulSerializer() {
+        rewriteRun(
+          java(MONEY),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.databind.SerializerProvider;
+              import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+              import java.io.IOException;
+
+              public class ScaledMoneySerializer extends StdSerializer<Money> {
+                  private final int scale;
+
+                  public ScaledMoneySerializer() {
+                      super(Money.class);
+                      scale = 2;
+                  }
+
+                  @Override
+                  public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                      gen.writeString(value.amount.setScale(scale).toPlainString());
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+              class Invoice {
+                  @JsonSerialize(using = ScaledMoneySerializer.class)
+                  public Money total;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepSerializerWithFieldAfterConstructor() {
+        rewriteRun(
+          java(MONEY),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.databind.SerializerProvider;
+              import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+              import java.io.IOException;
+
+              public class CountingMoneySerializer extends StdSerializer<Money> {
+                  public CountingMoneySerializer() {
+                      super(Money.class);
+                  }
+
+                  private int count;
+
+                  @Override
+                  public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                      gen.writeString(++count + ": " + value.amount.toPlainString());
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+              class Invoice {
+                  @JsonSerialize(using = CountingMoneySerializer.class)
+                  public Money total;
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class RemoveIntermediateJacksonIoCopiesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new RemoveIntermediateJacksonIoCopies())
+          .parser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()));
+    }
+
+    @DocumentExample
+    @Test
+    void writeValueAsBytes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.nio.charset.StandardCharsets;
+
+              class Test {
+                  byte[] write(ObjectMapper mapper, Object value) throws Exception {
+                      return mapper.writeValueAsString(value).getBytes(StandardCharsets.UTF_8);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  byte[] write(ObjectMapper mapper, Object value) throws Exception {
+                      return mapper.writeValueAsBytes(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void readBytesAndStreams() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.ObjectReader;
+
+              import java.io.InputStream;
+              import java.io.InputStreamReader;
+
+              import static java.nio.charset.StandardCharsets.UTF_8;
+
+              class Test {
+                  Object fromBytes(ObjectMapper mapper, byte[] bytes) throws Exception {
+                      return mapper.readValue(new String(bytes, UTF_8), Object.class);
+                  }
+
+                  Object fromStream(ObjectReader reader, InputStream in) throws Exception {
+                      return reader.readValue(new InputStreamReader(in, UTF_8));
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.ObjectReader;
+
+              import java.io.InputStream;
+
+              class Test {
+                  Object fromBytes(ObjectMapper mapper, byte[] bytes) throws Exception {
+                      return mapper.readValue(bytes, Object.class);
+                  }
+
+                  Object fromStream(ObjectReader reader, InputStream in) throws Exception {
+                      return reader.readValue(in);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void writeToFile() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectWriter;
+
+              import java.io.File;
+              import java.io.FileWriter;
+
+              import static java.nio.charset.StandardCharsets.UTF_8;
+
+              class Test {
+                  void write(ObjectWriter writer, File file, Object value) throws Exception {
+                      writer.writeValue(new FileWriter(file, UTF_8), value);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectWriter;
+
+              import java.io.File;
+
+              class Test {
+                  void write(ObjectWriter writer, File file, Object value) throws Exception {
+                      writer.writeValue(file, value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepOtherCharsets() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.io.FileWriter;
+
+              import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+              class Test {
+                  byte[] write(ObjectMapper mapper, Object value) throws Exception {
+                      return mapper.writeValueAsString(value).getBytes(ISO_8859_1);
+                  }
+
+                  Object read(ObjectMapper mapper, byte[] bytes) throws Exception {
+                      return mapper.readValue(new String(bytes, ISO_8859_1), Object.class);
+                  }
+
+                  void write(ObjectMapper mapper, String path, Object value) throws Exception {
+                      mapper.writeValue(new FileWriter(path), value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepDefaultCharset() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.io.File;
+              import java.io.FileReader;
+              import java.io.FileWriter;
+              import java.io.InputStream;
+              import java.io.InputStreamReader;
+
+              class Test {
+                  Object fromBytes(ObjectMapper mapper, byte[] bytes) throws Exception {
+                      return mapper.readValue(new String(bytes), Object.class);
+                  }
+
+                  Object fromStream(ObjectMapper mapper, InputStream in) throws Exception {
+                      return mapper.readValue(new InputStreamReader(in), Object.class);
+                  }
+
+                  Object fromFile(ObjectMapper mapper, File file) throws Exception {
+                      return mapper.readValue(new FileReader(file), Object.class);
+                  }
+
+                  void write(ObjectMapper mapper, File file, Object value) throws Exception {
+                      mapper.writeValue(new FileWriter(file), value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepReaderTreeFromFile() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+              import com.fasterxml.jackson.databind.ObjectReader;
+
+              import java.io.File;
+              import java.io.FileReader;
+
+              import static java.nio.charset.StandardCharsets.UTF_8;
+
+              class Test {
+                  JsonNode read(ObjectReader reader, File file) throws Exception {
+                      return reader.readTree(new FileReader(file, UTF_8));
+                  }
+              }
+              """
+          )
+        );
+    }
+}
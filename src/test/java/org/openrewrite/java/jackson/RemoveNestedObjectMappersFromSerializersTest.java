@@ -0,0 +1,221 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class RemoveNestedObjectMappersFromSerializersTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new RemoveNestedObjectMappersFromSerializers())
+          .parser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()));
+    }
+
+    //language=java
+    private static final String ORDER = """
+      public class Order {
+          public Customer customer;
+
+          public static class Customer {
+              public String name;
+          }
+      }
+      """;
+
+    @DocumentExample
+    @Test
+    void serializeNestedValueWithProvider() {
+        rewriteRun(
+          java(ORDER),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializerProvider;
+
+              import java.io.IOException;
+
+              public class OrderSerializer extends JsonSerializer<Order> {
+                  @Override
+                  public void serialize(Order value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                      gen.writeStartObject();
+                      gen.writeFieldName("customer");
+                      gen.writeRawValue(new ObjectMapper().writeValueAsString(value.customer));
+                      gen.writeEndObject();
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.SerializerProvider;
+
+              import java.io.IOException;
+
+              public class OrderSerializer extends JsonSerializer<Order> {
+                  @Override
+                  public void serialize(Order value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                      gen.writeStartObject();
+                      gen.writeFieldName("customer");
+                      provider.defaultSerializeValue(value.customer, gen);
+                      gen.writeEndObject();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void deserializeTreeWithContext() {
+        rewriteRun(
+          java(ORDER),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonParser;
+              import com.fasterxml.jackson.databind.DeserializationContext;
+              import com.fasterxml.jackson.databind.JsonDeserializer;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.io.IOException;
+
+              public class OrderDeserializer extends JsonDeserializer<Order> {
+                  @Override
+                  public Order deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+                      Order order = new Order();
+                      order.customer = new ObjectMapper().readValue(p.readValueAsTree().toString(), Order.Customer.class);
+                      return order;
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonParser;
+              import com.fasterxml.jackson.databind.DeserializationContext;
+              import com.fasterxml.jackson.databind.JsonDeserializer;
+
+              import java.io.IOException;
+
+              public class OrderDeserializer extends JsonDeserializer<Order> {
+                  @Override
+                  public Order deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+                      Order order = new Order();
+                      order.customer = ctxt.readValue(p, Order.Customer.class);
+                      return order;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void serializeOwnTypeWhenOnlyUsedOnProperties() {
+        rewriteRun(
+          java(ORDER),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializerProvider;
+
+              import java.io.IOException;
+
+              public class RawOrderSerializer extends JsonSerializer<Order> {
+                  @Override
+                  public void serialize(Order value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                      gen.writeRawValue(new ObjectMapper().writeValueAsString(value));
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.SerializerProvider;
+
+              import java.io.IOException;
+
+              public class RawOrderSerializer extends JsonSerializer<Order> {
+                  @Override
+                  public void serialize(Order value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                      provider.defaultSerializeValue(value, gen);
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+              class Invoice {
+                  @JsonSerialize(using = RawOrderSerializer.class)
+                  public Order order;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepOwnTypeWhenRegisteredForIt() {
+        rewriteRun(
+          java(ORDER),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializerProvider;
+
+              import java.io.IOException;
+
+              public class RawOrderSerializer extends JsonSerializer<Order> {
+                  @Override
+                  public void serialize(Order value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                      gen.writeRawValue(new ObjectMapper().writeValueAsString(value));
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.module.SimpleModule;
+
+              class Json {
+                  static final ObjectMapper MAPPER = new ObjectMapper()
+                    .registerModule(new SimpleModule().addSerializer(Order.class, new RawOrderSerializer()));
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class ReplaceDateFormatSerializersWithJsonFormatTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new ReplaceDateFormatSerializersWithJsonFormat())
+          .parser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()));
+    }
+
+    @DocumentExample
+    @Test
+    void replaceSerializerAndDeserializerWithJsonFormat() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.SerializerProvider;
+
+              import java.io.IOException;
+              import java.text.SimpleDateFormat;
+              import java.util.Date;
+              import java.util.TimeZone;
+
+              public class UtcDateSerializer extends JsonSerializer<Date> {
+                  @Override
+                  public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                      SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
+                      format.setTimeZone(TimeZone.getTimeZone("UTC"));
+                      gen.writeString(format.format(value));
+                  }
+              }
+              """,
+            (String) null
+          ),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonParser;
+              import com.fasterxml.jackson.databind.DeserializationContext;
+              import com.fasterxml.jackson.databind.JsonDeserializer;
+
+              import java.io.IOException;
+              import java.text.ParseException;
+              import java.text.SimpleDateFormat;
+              import java.util.Date;
+              import java.util.TimeZone;
+
+              public class UtcDateDeserializer extends JsonDeserializer<Date> {
+                  @Override
+                  public Date deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+                      SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
+                      format.setTimeZone(TimeZone.getTimeZone("UTC"));
+                      try {
+                          return format.parse(p.getText());
+                      } catch (ParseException e) {
+                          throw new IOException(e);
+                      }
+                  }
+              }
+              """,
+            (String) null
+          ),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+              import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+              import java.util.Date;
+
+              class Event {
+                  @JsonSerialize(using = UtcDateSerializer.class)
+                  @JsonDeserialize(using = UtcDateDeserializer.class)
+                  public Date created;
+              }
+              """,
+            """
+              import com.fasterxml.jackson.annotation.JsonFormat;
+
+              import java.util.Date;
+
+              class Event {
+                  @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss", timezone = "UTC")
+                  public Date created;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepDeserializerThatIgnoresMalformedDates() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.SerializerProvider;
+
+              import java.io.IOException;
+              import java.text.SimpleDateFormat;
+              import java.util.Date;
+              import java.util.TimeZone;
+
+              public class UtcDateSerializer extends JsonSerializer<Date> {
+                  @Override
+                  public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                      SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssXXX");
+                      format.setTimeZone(TimeZone.getTimeZone("UTC"));
+                      gen.writeString(format.format(value));
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonParser;
+              import com.fasterxml.jackson.databind.DeserializationContext;
+              import com.fasterxml.jackson.databind.JsonDeserializer;
+
+              import java.io.IOException;
+              import java.text.ParseException;
+              import java.text.SimpleDateFormat;
+              import java.util.Date;
+              import java.util.TimeZone;
+
+              public class LenientDateDeserializer extends JsonDeserializer<Date> {
+                  @Override
+                  public Date deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+                      SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssXXX");
+                      format.setTimeZone(TimeZone.getTimeZone("UTC"));
+                      try {
+                          return format.parse(p.getText());
+                      } catch (ParseException e) {
+                          return null;
+                      }
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+              import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+              import java.util.Date;
+
+              class Event {
+                  @JsonSerialize(using = UtcDateSerializer.class)
+                  @JsonDeserialize(using = LenientDateDeserializer.class)
+                  public Date created;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void cacheFormatterOfSerializerThatRemainsInUse() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.SerializerProvider;
+
+              import java.io.IOException;
+              import java.text.SimpleDateFormat;
+              import java.util.Date;
+
+              public class DaySerializer extends JsonSerializer<Date> {
+                  @Override
+                  public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                      gen.writeString(new SimpleDateFormat("yyyy-MM-dd").format(value));
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.SerializerProvider;
+
+              import java.io.IOException;
+              import java.time.Instant;
+              import java.time.ZoneId;
+              import java.time.format.DateTimeFormatter;
+              import java.util.Date;
+
+              public class DaySerializer extends JsonSerializer<Date> {
+                  private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneId.systemDefault());
+
+                  @Override
+                  public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                      gen.writeString(FORMATTER.format(Instant.ofEpochMilli(value.getTime())));
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+              import java.util.Date;
+
+              class Event {
+                  @JsonSerialize(using = DaySerializer.class)
+                  public Date day;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void cacheFormatterWithTimeZone() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.SerializerProvider;
+
+              import java.io.IOException;
+              import java.text.SimpleDateFormat;
+              import java.util.Date;
+              import java.util.TimeZone;
+
+              public class DaySerializer extends JsonSerializer<Date> {
+                  @Override
+                  public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                      SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
+                      format.setTimeZone(TimeZone.getTimeZone("EST"));
+                      gen.writeString(format.format(value));
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.SerializerProvider;
+
+              import java.io.IOException;
+              import java.time.Instant;
+              import java.time.format.DateTimeFormatter;
+              import java.util.Date;
+              import java.util.TimeZone;
+
+              public class DaySerializer extends JsonSerializer<Date> {
+                  private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(TimeZone.getTimeZone("EST").toZoneId());
+
+                  @Override
+                  public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                      gen.writeString(FORMATTER.format(Instant.ofEpochMilli(value.getTime())));
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+              import java.util.Date;
+
+              class Event {
+                  @JsonSerialize(using = DaySerializer.class)
+                  public Date day;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepSerializerWithIncompatiblePattern() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.SerializerProvider;
+
+              import java.io.IOException;
+              import java.text.SimpleDateFormat;
+              import java.util.Date;
+
+              public class WeekSerializer extends JsonSerializer<Date> {
+                  @Override
+                  public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                      gen.writeString(new SimpleDateFormat("YYYY-'W'ww").format(value));
+                  }
+              }
+              """
+          )
+        );
+    }
+}
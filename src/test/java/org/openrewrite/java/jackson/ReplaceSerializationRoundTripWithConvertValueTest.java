@@ -0,0 +1,188 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class ReplaceSerializationRoundTripWithConvertValueTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new ReplaceSerializationRoundTripWithConvertValue())
+          .parser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()));
+    }
+
+    @DocumentExample
+    @Test
+    void roundTrip() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.Map;
+
+              class Test {
+                  Map<?, ?> convert(ObjectMapper mapper, Object source) throws Exception {
+                      return mapper.readValue(mapper.writeValueAsString(source), Map.class);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.Map;
+
+              class Test {
+                  Map<?, ?> convert(ObjectMapper mapper, Object source) throws Exception {
+                      return mapper.convertValue(source, Map.class);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void roundTripAcrossStatements() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.Map;
+
+              class Test {
+                  Map<?, ?> convert(ObjectMapper mapper, Object source) throws Exception {
+                      String json = mapper.writeValueAsString(source);
+                      Map<?, ?> target = mapper.readValue(json, Map.class);
+                      return target;
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.Map;
+
+              class Test {
+                  Map<?, ?> convert(ObjectMapper mapper, Object source) throws Exception {
+                      Map<?, ?> target = mapper.convertValue(source, Map.class);
+                      return target;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepCodehausRoundTrip() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.codehaus.jackson.map.ObjectMapper;
+
+              import java.util.Map;
+
+              class Test {
+                  Map<?, ?> copy(ObjectMapper mapper, Map<?, ?> source) throws Exception {
+                      return mapper.readValue(mapper.writeValueAsString(source), Map.class);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenJsonIsUsedElsewhere() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.Map;
+
+              class Test {
+                  Map<?, ?> convert(ObjectMapper mapper, Object source) throws Exception {
+                      String json = mapper.writeValueAsString(source);
+                      System.out.println(json);
+                      return mapper.readValue(json, Map.class);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenIOExceptionIsCaught() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonProcessingException;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.Map;
+
+              class Test {
+                  Map<?, ?> convert(ObjectMapper mapper, Object source) {
+                      try {
+                          return mapper.readValue(mapper.writeValueAsString(source), Map.class);
+                      } catch (JsonProcessingException e) {
+                          return null;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepWhenMethodThrowsIOException() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonProcessingException;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.Map;
+
+              class Test {
+                  Map<?, ?> convert(ObjectMapper mapper, Object source) throws JsonProcessingException {
+                      return mapper.readValue(mapper.writeValueAsString(source), Map.class);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseJsonPointerForNodeNavigationTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new UseJsonPointerForNodeNavigation())
+          .parser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()));
+    }
+
+    @DocumentExample
+    @Test
+    void pathChain() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+
+              class Test {
+                  String city(JsonNode node) {
+                      return node.path("customer").path("address").path("city").asText();
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonPointer;
+              import com.fasterxml.jackson.databind.JsonNode;
+
+              class Test {
+                  private static final JsonPointer CUSTOMER_ADDRESS_CITY_POINTER = JsonPointer.compile("/customer/address/city");
+
+                  String city(JsonNode node) {
+                      return node.at(CUSTOMER_ADDRESS_CITY_POINTER).asText();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void getChainKeepsLastGet() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+
+              class Test {
+                  JsonNode city(JsonNode node) {
+                      return node.get("customer").get("address").get("city");
+                  }
+
+                  JsonNode street(JsonNode node) {
+                      return node.get("customer").get("address").get("street");
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonPointer;
+              import com.fasterxml.jackson.databind.JsonNode;
+
+              class Test {
+                  private static final JsonPointer CUSTOMER_ADDRESS_POINTER = JsonPointer.compile("/customer/address");
+
+                  JsonNode city(JsonNode node) {
+                      return node.at(CUSTOMER_ADDRESS_POINTER).get("city");
+                  }
+
+                  JsonNode street(JsonNode node) {
+                      return node.at(CUSTOMER_ADDRESS_POINTER).get("street");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepShortChainsAndIndexLikeKeys() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+
+              class Test {
+                  JsonNode first(JsonNode node) {
+                      return node.get("customer").get("address");
+                  }
+
+                  JsonNode second(JsonNode node) {
+                      return node.path("lines").path("0");
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson.codehaus;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class ChangeCodehausTypesToFasterXMLTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new ChangeCodehausTypesToFasterXML())
+          .parser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()));
+    }
+
+    @DocumentExample
+    @Test
+    void changeTypesCollectedAcrossFiles() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.codehaus.jackson.map.ObjectMapper;
+
+              class A {
+                  ObjectMapper mapper = new ObjectMapper();
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class A {
+                  ObjectMapper mapper = new ObjectMapper();
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import org.codehaus.jackson.map.ser.std.ToStringSerializer;
+
+              class B {
+                  ToStringSerializer serializer = ToStringSerializer.instance;
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+              class B {
+                  ToStringSerializer serializer = ToStringSerializer.instance;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void staticallyImportedFeature() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.codehaus.jackson.map.ObjectMapper;
+
+              import static org.codehaus.jackson.map.SerializationConfig.Feature.WRAP_ROOT_VALUE;
+
+              class Test {
+                  void configure(ObjectMapper mapper) {
+                      mapper.configure(WRAP_ROOT_VALUE, true);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import static com.fasterxml.jackson.databind.SerializationFeature.WRAP_ROOT_VALUE;
+
+              class Test {
+                  void configure(ObjectMapper mapper) {
+                      mapper.configure(WRAP_ROOT_VALUE, true);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void streamingAndUtilityTypes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.codehaus.jackson.JsonGenerator;
+              import org.codehaus.jackson.ObjectCodec;
+              import org.codehaus.jackson.util.DefaultPrettyPrinter;
+              import org.codehaus.jackson.util.TokenBuffer;
+
+              class Streaming {
+                  ObjectCodec codec;
+                  TokenBuffer buffer;
+
+                  void print(JsonGenerator generator) {
+                      generator.setPrettyPrinter(new DefaultPrettyPrinter());
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.core.ObjectCodec;
+              import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+              import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+              class Streaming {
+                  ObjectCodec codec;
+                  TokenBuffer buffer;
+
+                  void print(JsonGenerator generator) {
+                      generator.setPrettyPrinter(new DefaultPrettyPrinter());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noCodehausTypes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  ObjectMapper mapper = new ObjectMapper();
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void skipChangesForTypesNotInUse() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        ChangeCodehausTypesToFasterXML recipe = new ChangeCodehausTypesToFasterXML();
+        Set<String> codehausTypes = recipe.getInitialValue(ctx);
+        //language=java
+        recipe.getScanner(codehausTypes).visit(parse(ctx,
+          """
+            import org.codehaus.jackson.map.ObjectMapper;
+
+            class Scanned {
+                ObjectMapper mapper = new ObjectMapper();
+            }
+            """
+        ), ctx);
+        assertThat(codehausTypes).containsExactly("org.codehaus.jackson.map.ObjectMapper");
+        TreeVisitor<?, ExecutionContext> visitor = recipe.getVisitor(codehausTypes);
+
+        // Only the ObjectMapper change runs, so the JsonNode was not scanned and is left alone
+        //language=java
+        Tree mixed = visitor.visit(parse(ctx,
+          """
+            import org.codehaus.jackson.JsonNode;
+            import org.codehaus.jackson.map.ObjectMapper;
+
+            class Mixed {
+                ObjectMapper mapper = new ObjectMapper();
+                JsonNode node;
+            }
+            """
+        ), ctx);
+        assertThat(((SourceFile) mixed).printAll())
+          .contains("import com.fasterxml.jackson.databind.ObjectMapper;")
+          .contains("import org.codehaus.jackson.JsonNode;");
+
+        // A file that uses none of the scanned types is returned as it is
+        //language=java
+        SourceFile factory = parse(ctx,
+          """
+            import org.codehaus.jackson.JsonFactory;
+
+            class Factory {
+                JsonFactory factory = new JsonFactory();
+            }
+            """
+        );
+        assertThat(visitor.visit(factory, ctx)).isSameAs(factory);
+    }
+
+    private static SourceFile parse(ExecutionContext ctx, String source) {
+        return JavaParser.fromJavaVersion()
+          .classpath(JavaParser.runtimeClasspath())
+          .build()
+          .parse(ctx, source)
+          .findFirst()
+          .orElseThrow(IllegalStateException::new);
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson.codehaus;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.SourceSpecs.text;
+import static org.openrewrite.xml.Assertions.xml;
+
+class CodehausJaxRsProviderToFasterXMLTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new CodehausJaxRsProviderToFasterXML(null))
+          .parser(JavaParser.fromJavaVersion()
+            .classpath(JavaParser.runtimeClasspath())
+            //language=java
+            .dependsOn(
+              """
+                package org.codehaus.jackson.jaxrs;
+                public class JacksonJsonProvider {
+                }
+                """,
+              """
+                package org.codehaus.jackson.jaxrs;
+                public class JacksonJaxbJsonProvider extends JacksonJsonProvider {
+                }
+                """,
+              """
+                package javax.ws.rs.core;
+                public abstract class Application {
+                    public java.util.Set<Class<?>> getClasses() {
+                        return null;
+                    }
+                }
+                """,
+              """
+                package jakarta.ws.rs.core;
+                public abstract class Application {
+                    public java.util.Set<Object> getSingletons() {
+                        return null;
+                    }
+                }
+                """
+            ))
+          // The provider and the resolver are not on the classpath of the tests
+          .afterTypeValidationOptions(TypeValidation.none());
+    }
+
+    @DocumentExample
+    @Test
+    void registerResolverWithApplication() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.codehaus.jackson.jaxrs.JacksonJsonProvider;
+
+              import javax.ws.rs.core.Application;
+              import java.util.HashSet;
+              import java.util.Set;
+
+              public class RestApplication extends Application {
+                  @Override
+                  public Set<Class<?>> getClasses() {
+                      Set<Class<?>> classes = new HashSet<>();
+                      classes.add(JacksonJsonProvider.class);
+                      return classes;
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
+
+              import javax.ws.rs.core.Application;
+              import java.util.HashSet;
+              import java.util.Set;
+
+              public class RestApplication extends Application {
+                  @Override
+                  public Set<Class<?>> getClasses() {
+                      Set<Class<?>> classes = new HashSet<>();
+                      classes.add(JacksonJsonProvider.class);
+                      classes.add(ObjectMapperContextResolver.class);
+                      return classes;
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            null,
+            """
+              package com.example;
+
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import javax.ws.rs.ext.ContextResolver;
+              import javax.ws.rs.ext.Provider;
+
+              /**
+               * Provides the one {@link ObjectMapper} which is shared by the JSON provider, so that it is configured once.
+               */
+              @Provider
+              public class ObjectMapperContextResolver implements ContextResolver<ObjectMapper> {
+
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  @Override
+                  public ObjectMapper getContext(Class<?> type) {
+                      return MAPPER;
+                  }
+              }
+              """,
+            spec -> spec.path("com/example/ObjectMapperContextResolver.java")
+          )
+        );
+    }
+
+    @Test
+    void noResolverForJaxbProvider() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.codehaus.jackson.jaxrs.JacksonJaxbJsonProvider;
+
+              import javax.ws.rs.core.Application;
+              import java.util.HashSet;
+              import java.util.Set;
+
+              public class RestApplication extends Application {
+                  @Override
+                  public Set<Class<?>> getClasses() {
+                      Set<Class<?>> classes = new HashSet<>();
+                      classes.add(JacksonJaxbJsonProvider.class);
+                      return classes;
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import com.fasterxml.jackson.jaxrs.json.JacksonJaxbJsonProvider;
+
+              import javax.ws.rs.core.Application;
+              import java.util.HashSet;
+              import java.util.Set;
+
+              public class RestApplication extends Application {
+                  @Override
+                  public Set<Class<?>> getClasses() {
+                      Set<Class<?>> classes = new HashSet<>();
+                      classes.add(JacksonJaxbJsonProvider.class);
+                      return classes;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void jakartaProvider() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import jakarta.ws.rs.core.Application;
+              import org.codehaus.jackson.jaxrs.JacksonJsonProvider;
+
+              import java.util.HashSet;
+              import java.util.Set;
+
+              public class RestApplication extends Application {
+                  @Override
+                  public Set<Object> getSingletons() {
+                      Set<Object> singletons = new HashSet<>();
+                      singletons.add(new JacksonJsonProvider());
+                      return singletons;
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import com.fasterxml.jackson.jakarta.rs.json.JacksonJsonProvider;
+              import jakarta.ws.rs.core.Application;
+
+              import java.util.HashSet;
+              import java.util.Set;
+
+              public class RestApplication extends Application {
+                  @Override
+                  public Set<Object> getSingletons() {
+                      Set<Object> singletons = new HashSet<>();
+                      singletons.add(new JacksonJsonProvider());
+                      singletons.add(new ObjectMapperContextResolver());
+                      return singletons;
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            null,
+            """
+              package com.example;
+
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import jakarta.ws.rs.ext.ContextResolver;
+              import jakarta.ws.rs.ext.Provider;
+
+              /**
+               * Provides the one {@link ObjectMapper} which is shared by the JSON provider, so that it is configured once.
+               */
+              @Provider
+              public class ObjectMapperContextResolver implements ContextResolver<ObjectMapper> {
+
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  @Override
+                  public ObjectMapper getContext(Class<?> type) {
+                      return MAPPER;
+                  }
+              }
+              """,
+            spec -> spec.path("com/example/ObjectMapperContextResolver.java")
+          )
+        );
+    }
+
+    @Test
+    void changeWebXmlRegistration() {
+        rewriteRun(
+          //language=xml
+          xml(
+            """
+              <web-app>
+                  <servlet>
+                      <servlet-name>rest</servlet-name>
+                      <servlet-class>org.glassfish.jersey.servlet.ServletContainer</servlet-class>
+                      <init-param>
+                          <param-name>jersey.config.server.provider.classnames</param-name>
+                          <param-value>org.codehaus.jackson.jaxrs.JacksonJsonProvider</param-value>
+                      </init-param>
+                  </servlet>
+              </web-app>
+              """,
+            """
+              <web-app>
+                  <servlet>
+                      <servlet-name>rest</servlet-name>
+                      <servlet-class>org.glassfish.jersey.servlet.ServletContainer</servlet-class>
+                      <init-param>
+                          <param-name>jersey.config.server.provider.classnames</param-name>
+                          <param-value>com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider</param-value>
+                      </init-param>
+                  </servlet>
+              </web-app>
+              """,
+            spec -> spec.path("src/main/webapp/WEB-INF/web.xml")
+          )
+        );
+    }
+
+    @Test
+    void changeServicesRegistration() {
+        rewriteRun(
+          text(
+            """
+              org.codehaus.jackson.jaxrs.JacksonJsonProvider
+              org.codehaus.jackson.jaxrs.JsonMappingExceptionMapper
+              """,
+            """
+              com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider
+              com.fasterxml.jackson.jaxrs.base.JsonMappingExceptionMapper
+              """,
+            spec -> spec.path("src/main/resources/META-INF/services/javax.ws.rs.ext.Providers")
+          )
+        );
+    }
+
+    @Test
+    void markScannedCodehausPackage() {
+        rewriteRun(
+          //language=xml
+          xml(
+            """
+              <web-app>
+                  <servlet>
+                      <servlet-name>rest</servlet-name>
+                      <servlet-class>org.glassfish.jersey.servlet.ServletContainer</servlet-class>
+                      <init-param>
+                          <param-name>jersey.config.server.provider.packages</param-name>
+                          <param-value>org.codehaus.jackson.jaxrs</param-value>
+                      </init-param>
+                  </servlet>
+              </web-app>
+              """,
+            """
+              <web-app>
+                  <servlet>
+                      <servlet-name>rest</servlet-name>
+                      <servlet-class>org.glassfish.jersey.servlet.ServletContainer</servlet-class>
+                      <init-param>
+                          <param-name>jersey.config.server.provider.packages</param-name>
+                          <param-value><!--~~(No FasterXML replacement for this Codehaus JAX-RS class or package)~~>-->org.codehaus.jackson.jaxrs</param-value>
+                      </init-param>
+                  </servlet>
+              </web-app>
+              """,
+            spec -> spec.path("src/main/webapp/WEB-INF/web.xml")
+          )
+        );
+    }
+
+    @Test
+    void leaveOtherXmlAlone() {
+        rewriteRun(
+          //language=xml
+          xml(
+            """
+              <beans>
+                  <bean class="org.codehaus.jackson.jaxrs.JacksonJsonProvider"/>
+              </beans>
+              """,
+            spec -> spec.path("src/main/resources/applicationContext.xml")
+          )
+        );
+    }
+}
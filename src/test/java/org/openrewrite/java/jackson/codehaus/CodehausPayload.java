@@ -0,0 +1,161 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson.codehaus;
+
+/**
+ * POJOs before and after the migration from Codehaus to FasterXML. {@link CodehausToFasterXMLTest} checks that the
+ * migration produces the source after, and {@link CodehausToFasterXMLParityTest} that Jackson 1 and Jackson 2 write the
+ * same JSON for the source before and after.
+ */
+enum CodehausPayload {
+
+    CLASS_INCLUSION(
+      //language=java
+      """
+        package com.example;
+
+        import org.codehaus.jackson.annotate.JsonPropertyOrder;
+        import org.codehaus.jackson.map.annotate.JsonSerialize;
+
+        @JsonSerialize(include = JsonSerialize.Inclusion.NON_NULL)
+        @JsonPropertyOrder({"id", "note", "quantity"})
+        public class Payload {
+            public String id = "42";
+            public String note;
+            public int quantity = 3;
+        }
+        """,
+      //language=java
+      """
+        package com.example;
+
+        import com.fasterxml.jackson.annotation.JsonInclude;
+        import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+        @JsonInclude(value = JsonInclude.Include.NON_NULL)
+        @JsonPropertyOrder({"id", "note", "quantity"})
+        public class Payload {
+            public String id = "42";
+            public String note;
+            public int quantity = 3;
+        }
+        """
+    ),
+
+    PROPERTIES(
+      //language=java
+      """
+        package com.example;
+
+        import org.codehaus.jackson.annotate.JsonIgnore;
+        import org.codehaus.jackson.annotate.JsonProperty;
+        import org.codehaus.jackson.annotate.JsonPropertyOrder;
+
+        import java.util.ArrayList;
+        import java.util.Arrays;
+        import java.util.List;
+
+        @JsonPropertyOrder({"customer_name", "tags"})
+        public class Payload {
+            @JsonProperty("customer_name")
+            public String name = "Ada";
+            public List<String> tags = new ArrayList<>(Arrays.asList("priority", "export"));
+            @JsonIgnore
+            public String secret = "hidden";
+        }
+        """,
+      //language=java
+      """
+        package com.example;
+
+        import com.fasterxml.jackson.annotation.JsonIgnore;
+        import com.fasterxml.jackson.annotation.JsonProperty;
+        import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+        import java.util.ArrayList;
+        import java.util.Arrays;
+        import java.util.List;
+
+        @JsonPropertyOrder({"customer_name", "tags"})
+        public class Payload {
+            @JsonProperty("customer_name")
+            public String name = "Ada";
+            public List<String> tags = new ArrayList<>(Arrays.asList("priority", "export"));
+            @JsonIgnore
+            public String secret = "hidden";
+        }
+        """
+    ),
+
+    FIELD_INCLUSION(
+      //language=java
+      """
+        package com.example;
+
+        import org.codehaus.jackson.annotate.JsonPropertyOrder;
+        import org.codehaus.jackson.map.annotate.JsonSerialize;
+
+        import java.util.LinkedHashMap;
+        import java.util.Map;
+
+        @JsonPropertyOrder({"sku", "description", "attributes"})
+        public class Payload {
+            public String sku = "A-1";
+            @JsonSerialize(include = JsonSerialize.Inclusion.NON_NULL)
+            public String description;
+            public Map<String, Integer> attributes = new LinkedHashMap<>();
+
+            public Payload() {
+                attributes.put("width", 10);
+                attributes.put("height", 20);
+            }
+        }
+        """,
+      //language=java
+      """
+        package com.example;
+
+        import com.fasterxml.jackson.annotation.JsonInclude;
+        import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+        import java.util.LinkedHashMap;
+        import java.util.Map;
+
+        @JsonPropertyOrder({"sku", "description", "attributes"})
+        public class Payload {
+            public String sku = "A-1";
+            @JsonInclude(value = JsonInclude.Include.NON_NULL)
+            public String description;
+            public Map<String, Integer> attributes = new LinkedHashMap<>();
+
+            public Payload() {
+                attributes.put("width", 10);
+                attributes.put("height", 20);
+            }
+        }
+        """
+    );
+
+    static final String CLASS_NAME = "com.example.Payload";
+
+    final String before;
+    final String after;
+
+    CodehausPayload(String before, String after) {
+        this.before = before;
+        this.after = after;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2024 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.jackson.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson.codehaus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.openrewrite.java.JavaParser;
+
+import javax.tools.*;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compiles the {@link CodehausPayload} POJOs before and after the migration, and checks that Jackson 1 and Jackson 2
+ * write the same JSON for them. The serialization and deserialization throughput of both is only measured when the {@code jackson.benchmark}
+ * system property is set, as it takes a while and its numbers depend on the machine.
+ * <p>
+ * The throughput is measured with a plain timing loop rather than JMH, without forked JVMs or statistics,
+ * so its numbers are indicative only.
+ */
+class CodehausToFasterXMLParityTest {
+
+    private static final org.codehaus.jackson.map.ObjectMapper JACKSON_1 = new org.codehaus.jackson.map.ObjectMapper();
+    private static final ObjectMapper JACKSON_2 = new ObjectMapper();
+
+    @ParameterizedTest
+    @EnumSource(CodehausPayload.class)
+    void sameJson(CodehausPayload payload) throws Exception {
+        Class<?> codehaus = compile(payload.before).loadClass(CodehausPayload.CLASS_NAME);
+        Class<?> fasterxml = compile(payload.after).loadClass(CodehausPayload.CLASS_NAME);
+
+        byte[] json = JACKSON_1.writeValueAsBytes(codehaus.getConstructor().newInstance());
+        assertArrayEquals(json, JACKSON_2.writeValueAsBytes(fasterxml.getConstructor().newInstance()),
+          () -> new String(json));
+
+        // Reading the JSON back does not lose or change anything either
+        assertArrayEquals(json, JACKSON_1.writeValueAsBytes(JACKSON_1.readValue(json, codehaus)));
+        assertArrayEquals(json, JACKSON_2.writeValueAsBytes(JACKSON_2.readValue(json, fasterxml)));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "jackson.benchmark", matches = ".*")
+    void throughput(TestReporter reporter) throws Exception {
+        int iterations = Integer.getInteger("jackson.benchmark.iterations", 200_000);
+        int warmups = Integer.getInteger("jackson.benchmark.warmups", 5);
+        for (CodehausPayload payload : CodehausPayload.values()) {
+            Class<?> codehaus = compile(payload.before).loadClass(CodehausPayload.CLASS_NAME);
+            Class<?> fasterxml = compile(payload.after).loadClass(CodehausPayload.CLASS_NAME);
+            Object codehausPayload = codehaus.getConstructor().newInstance();
+            Object fasterxmlPayload = fasterxml.getConstructor().newInstance();
+            byte[] json = JACKSON_2.writeValueAsBytes(fasterxmlPayload);
+            Sink sink = new Sink();
+
+            // The warm-up runs let the JIT compile the serializers before anything is measured
+            long[] nanos = new long[4];
+            for (int run = 0; run <= warmups; run++) {
+                nanos[0] = time(iterations, sink, () -> JACKSON_1.writeValueAsBytes(codehausPayload));
+                nanos[1] = time(iterations, sink, () -> JACKSON_2.writeValueAsBytes(fasterxmlPayload));
+                nanos[2] = time(iterations, sink, () -> JACKSON_1.readValue(json, codehaus));
+                nanos[3] = time(iterations, sink, () -> JACKSON_2.readValue(json, fasterxml));
+            }
+            reporter.publishEntry(payload.name(), String.format(
+              "write: Jackson 1 %,d ops/s, Jackson 2 %,d ops/s; read: Jackson 1 %,d ops/s, Jackson 2 %,d ops/s (sink %x)",
+              opsPerSecond(iterations, nanos[0]), opsPerSecond(iterations, nanos[1]),
+              opsPerSecond(iterations, nanos[2]), opsPerSecond(iterations, nanos[3]), sink.hash));
+        }
+    }
+
+    /**
+     * Compile the source in memory, against the test classpath which has both Jackson 1 and Jackson 2 on it.
+     * The test is skipped when it runs on a JRE without a compiler.
+     */
+    private static ClassLoader compile(String source) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeTrue(compiler != null, "No system Java compiler available");
+        Map<String, ByteArrayOutputStream> classes = new HashMap<>();
+        JavaFileManager fileManager = new ForwardingJavaFileManager<>(compiler.getStandardFileManager(null, null, null)) {
+            @Override
+            public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+                return new SimpleJavaFileObject(URI.create("mem:///" + className.replace('.', '/') + kind.extension), kind) {
+                    @Override
+                    public OutputStream openOutputStream() {
+                        return classes.computeIfAbsent(className, name -> new ByteArrayOutputStream());
+                    }
+                };
+            }
+        };
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///" + CodehausPayload.CLASS_NAME.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        StringWriter errors = new StringWriter();
+        boolean compiled = compiler.getTask(errors, fileManager, null,
+          Arrays.asList("-classpath", classpath()), null, singletonList(file)).call();
+        assertTrue(compiled, () -> errors + source);
+
+        return new ClassLoader(CodehausToFasterXMLParityTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                ByteArrayOutputStream bytes = classes.get(name);
+                if (bytes == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                return defineClass(name, bytes.toByteArray(), 0, bytes.size());
+            }
+        };
+    }
+
+    private static String classpath() {
+        return JavaParser.runtimeClasspath().stream()
+          .map(Path::toString)
+          .collect(Collectors.joining(File.pathSeparator));
+    }
+
+    private static long time(int iterations, Sink sink, Operation operation) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink.consume(operation.run());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long opsPerSecond(int iterations, long nanos) {
+        return iterations * 1_000_000_000L / Math.max(nanos, 1);
+    }
+
+    private interface Operation {
+        Object run() throws Exception;
+    }
+
+    /**
+     * Folds every result into a hash which is reported with the numbers, like a JMH {@code Blackhole},
+     * so that the JIT cannot drop the work that produced them.
+     */
+    private static final class Sink {
+        long hash;
+
+        void consume(Object result) {
+            hash = 31 * hash + (result instanceof byte[] ? Arrays.hashCode((byte[]) result) : System.identityHashCode(result));
+        }
+    }
+}
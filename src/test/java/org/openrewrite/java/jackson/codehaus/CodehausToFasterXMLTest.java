@@ -17,6 +17,8 @@ package org.openrewrite.java.jackson.codehaus;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.test.RecipeSpec;
@@ -230,6 +232,14 @@ class CodehausToFasterXMLTest implements RewriteTest {
         }
     }
 
+    @ParameterizedTest
+    @EnumSource(CodehausPayload.class)
+    void migratePayload(CodehausPayload payload) {
+        rewriteRun(
+          java(payload.before, payload.after)
+        );
+    }
+
     @Test
     void replaceFieldAnnotation() {
         rewriteRun(
@@ -330,4 +340,214 @@ class CodehausToFasterXMLTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void staticTyping() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.codehaus.jackson.map.ObjectMapper;
+              import org.codehaus.jackson.map.SerializationConfig;
+              import org.codehaus.jackson.map.annotate.JsonSerialize;
+
+              class Test {
+                  @JsonSerialize(typing = JsonSerialize.Typing.STATIC)
+                  @com.fasterxml.jackson.databind.annotation.JsonSerialize
+                  private Object value;
+
+                  void configure(ObjectMapper mapper) {
+                      mapper.configure(SerializationConfig.Feature.USE_STATIC_TYPING, true);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.MapperFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+              class Test {
+                  @JsonSerialize(typing = JsonSerialize.Typing.STATIC)
+                  private Object value;
+
+                  void configure(ObjectMapper mapper) {
+                      mapper.configure(MapperFeature.USE_STATIC_TYPING, true);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void jsonNodeAccessors() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.codehaus.jackson.JsonNode;
+
+              class Test {
+                  String city(JsonNode node) {
+                      return node.getFieldValue("address").getPath("city").getTextValue();
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+
+              class Test {
+                  String city(JsonNode node) {
+                      return node.get("address").path("city").textValue();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void streamingApi() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.codehaus.jackson.JsonFactory;
+              import org.codehaus.jackson.JsonParser;
+              import org.codehaus.jackson.JsonToken;
+
+              class Test {
+                  int countFields(String json) throws Exception {
+                      JsonParser parser = new JsonFactory().createJsonParser(json);
+                      int count = 0;
+                      while (parser.nextToken() != null) {
+                          if (parser.getCurrentToken() == JsonToken.FIELD_NAME) {
+                              count++;
+                          }
+                      }
+                      return count;
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonFactory;
+              import com.fasterxml.jackson.core.JsonParser;
+              import com.fasterxml.jackson.core.JsonToken;
+
+              class Test {
+                  int countFields(String json) throws Exception {
+                      JsonParser parser = new JsonFactory().createParser(json);
+                      int count = 0;
+                      while (parser.nextToken() != null) {
+                          if (parser.getCurrentToken() == JsonToken.FIELD_NAME) {
+                              count++;
+                          }
+                      }
+                      return count;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void convergesInSingleCycle() {
+        rewriteRun(
+          spec -> spec.cycles(2).expectedCyclesThatMakeChanges(1),
+          //language=java
+          java(
+            """
+              import org.codehaus.jackson.map.ObjectMapper;
+              import org.codehaus.jackson.map.SerializationConfig;
+              import org.codehaus.jackson.map.annotate.JsonSerialize;
+              import org.codehaus.jackson.map.ser.std.ToStringSerializer;
+
+              @JsonSerialize(include = JsonSerialize.Inclusion.NON_NULL)
+              class Dto {
+                  @JsonSerialize(include = JsonSerialize.Inclusion.NON_EMPTY, using = ToStringSerializer.class)
+                  @com.fasterxml.jackson.databind.annotation.JsonSerialize
+                  private Object id;
+
+                  String write() throws Exception {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.configure(SerializationConfig.Feature.INDENT_OUTPUT, true);
+                      return mapper.writeValueAsString(this);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.annotation.JsonInclude;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+              import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+              import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+              @JsonInclude(value = JsonInclude.Include.NON_NULL)
+              class Dto {
+                  @JsonInclude(value = JsonInclude.Include.NON_EMPTY)
+                  @JsonSerialize(using = ToStringSerializer.class)
+                  private Object id;
+
+                  String write() throws Exception {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.configure(SerializationFeature.INDENT_OUTPUT, true);
+                      return mapper.writeValueAsString(this);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void convergesInSingleCycleAcrossFiles() {
+        rewriteRun(
+          spec -> spec.cycles(2).expectedCyclesThatMakeChanges(1),
+          //language=java
+          java(
+            """
+              import org.codehaus.jackson.map.annotate.JsonSerialize;
+              import org.codehaus.jackson.map.JsonSerializer.None;
+              import static org.codehaus.jackson.map.annotate.JsonSerialize.Inclusion.NON_NULL;
+
+              class First {
+                  @JsonSerialize(include = NON_NULL, using = None.class)
+                  @com.fasterxml.jackson.databind.annotation.JsonSerialize
+                  private String first;
+              }
+              """,
+            """
+              import com.fasterxml.jackson.annotation.JsonInclude;
+              import com.fasterxml.jackson.databind.JsonSerializer.None;
+              import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+              class First {
+                  @JsonInclude(value = JsonInclude.Include.NON_NULL)
+                  @JsonSerialize(using = None.class)
+                  private String first;
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import org.codehaus.jackson.annotate.JsonIgnore;
+
+              class Second {
+                  @JsonIgnore
+                  private String second;
+              }
+              """,
+            """
+              import com.fasterxml.jackson.annotation.JsonIgnore;
+
+              class Second {
+                  @JsonIgnore
+                  private String second;
+              }
+              """
+          )
+        );
+    }
 }
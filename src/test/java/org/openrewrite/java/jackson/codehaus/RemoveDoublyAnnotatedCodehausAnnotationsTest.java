@@ -174,4 +174,80 @@ class RemoveDoublyAnnotatedCodehausAnnotationsTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void removeFromParameterOfMethodWithBody() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.codehaus.jackson.map.annotate.JsonSerialize;
+              import org.codehaus.jackson.map.JsonSerializer.None;
+
+              class Test {
+                  void setFirst(@JsonSerialize(using = None.class) @com.fasterxml.jackson.databind.annotation.JsonSerialize(using = com.fasterxml.jackson.databind.JsonSerializer.None.class) String first) {
+                      Runnable r = () -> System.out.println(first);
+                      r.run();
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+              class Test {
+                  void setFirst(@JsonSerialize(using = JsonSerializer.None.class) String first) {
+                      Runnable r = () -> System.out.println(first);
+                      r.run();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void removeFromLocalAndAnonymousClasses() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.codehaus.jackson.map.annotate.JsonSerialize;
+              import org.codehaus.jackson.map.JsonSerializer.None;
+
+              class Test {
+                  Object create() {
+                      class Local {
+                          @JsonSerialize(using = None.class)
+                          @com.fasterxml.jackson.databind.annotation.JsonSerialize(using = com.fasterxml.jackson.databind.JsonSerializer.None.class)
+                          String first;
+                      }
+                      return new Object() {
+                          @JsonSerialize(using = None.class)
+                          @com.fasterxml.jackson.databind.annotation.JsonSerialize(using = com.fasterxml.jackson.databind.JsonSerializer.None.class)
+                          String second;
+                      };
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+              class Test {
+                  Object create() {
+                      class Local {
+                          @JsonSerialize(using = JsonSerializer.None.class)
+                          String first;
+                      }
+                      return new Object() {
+                          @JsonSerialize(using = JsonSerializer.None.class)
+                          String second;
+                      };
+                  }
+              }
+              """
+          )
+        );
+    }
 }
@@ -15,6 +15,7 @@
  */
 package org.openrewrite.java.jackson.codehaus;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -174,4 +175,58 @@ class TransferJsonSerializeArgumentsFromCodehausToFasterXMLTest implements Rewri
           )
         );
     }
+
+    @Test
+    void shouldTransferTyping() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.codehaus.jackson.map.annotate.JsonSerialize;
+
+              class Test {
+                @JsonSerialize(typing = JsonSerialize.Typing.STATIC)
+                @com.fasterxml.jackson.databind.annotation.JsonSerialize
+                private Object first;
+              }
+              """,
+            """
+              import org.codehaus.jackson.map.annotate.JsonSerialize;
+
+              class Test {
+                @JsonSerialize(typing = JsonSerialize.Typing.STATIC)
+                @com.fasterxml.jackson.databind.annotation.JsonSerialize(typing = JsonSerialize.Typing.STATIC)
+                private Object first;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void markConflictingTyping() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.codehaus.jackson.map.annotate.JsonSerialize;
+
+              class Test {
+                @JsonSerialize(typing = JsonSerialize.Typing.STATIC)
+                @com.fasterxml.jackson.databind.annotation.JsonSerialize(typing = com.fasterxml.jackson.databind.annotation.JsonSerialize.Typing.DYNAMIC)
+                private Object first;
+              }
+              """,
+            """
+              import org.codehaus.jackson.map.annotate.JsonSerialize;
+
+              class Test {
+                @JsonSerialize(typing = JsonSerialize.Typing.STATIC)
+                /*~~(Codehaus typing = STATIC is not transferred, as typing is set already)~~>*/@com.fasterxml.jackson.databind.annotation.JsonSerialize(typing = com.fasterxml.jackson.databind.annotation.JsonSerialize.Typing.DYNAMIC)
+                private Object first;
+              }
+              """
+          )
+        );
+    }
 }